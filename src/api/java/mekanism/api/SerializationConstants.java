@@ -204,6 +204,7 @@ public final class SerializationConstants {
     public static final String LOCK_STACK = "lock_stack";
     public static final String LOGIC_TYPE = "logic_type";
     public static final String MAGNITUDE = "magnitude";
+    public static final String MAGNITUDES = "magnitudes";
     public static final String MAIN = "main";
     public static final String MAX = "max";
     public static final String MAX_BURN_TIME = "max_burn_time";
@@ -233,6 +234,7 @@ public final class SerializationConstants {
     public static final String PIGMENT_TANKS = "pigment_tanks";
     public static final String PLASMA_TEMP = "plasma_temp";
     public static final String POSITION = "position";
+    public static final String POSITIONS = "positions";
     public static final String PREVIOUS = "previous";
     public static final String PROCESSED = "processed";
     public static final String PROGRESS = "progress";
@@ -240,6 +242,7 @@ public final class SerializationConstants {
     public static final String PULSE = "pulse";
     public static final String RADIATION = "radiation";
     public static final String RADIATION_LIST = "radList";
+    public static final String RADIATION_SOURCES = "radiation_sources";
     public static final String RADIUS = "radius";
     public static final String REACTOR_DAMAGE = "reactor_damage";
     public static final String RECEIVED_COORDS = "received_coords";
@@ -44,6 +44,10 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
      * Used to check if the {@link CachedRecipe} should recheck for all errors.
      */
     private final BooleanSupplier recheckAllErrors;
+    /**
+     * Tracker that gets reset and reused each time this {@link CachedRecipe} is processed, so that processing doesn't have to allocate a new one every tick.
+     */
+    private final OperationTracker tracker = new OperationTracker();
 
     /**
      * Used to check if the {@link CachedRecipe} holder can function.
@@ -85,6 +89,12 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
      * @implNote Defaults to returning no energy stored.
      */
     private FloatingLongSupplier storedEnergy = () -> FloatingLong.ZERO;
+    /**
+     * Gets the maximum amount of energy the machine/object executing this {@link CachedRecipe} can store.
+     *
+     * @implNote Defaults to returning no energy.
+     */
+    private FloatingLongSupplier maxEnergy = () -> FloatingLong.ZERO;
     /**
      * Called to consume energy.
      *
@@ -126,6 +136,20 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
      */
     private IntConsumer operatingTicksChanged = ticks -> {
     };
+    /**
+     * Gets the number of ticks worth of processing to perform at once after the recipe has been running steadily for that many ticks.
+     *
+     * @implNote Defaults to one, which means every tick gets processed as it happens.
+     */
+    private IntSupplier batchTicks = () -> 1;
+    /**
+     * Number of ticks in a row that the recipe has performed the baseline maximum number of operations without running into any errors.
+     */
+    private int steadyTicks;
+    /**
+     * Number of ticks that have been deferred so that they can be processed at once.
+     */
+    private int batchedTicks;
 
     /**
      * @param recipe           Recipe.
@@ -178,6 +202,7 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
         this.perTickEnergy = Objects.requireNonNull(perTickEnergy, "The per tick energy cannot be null.");
         Objects.requireNonNull(energyContainer, "Energy container cannot be null.");
         this.storedEnergy = energyContainer::getEnergy;
+        this.maxEnergy = energyContainer::getMaxEnergy;
         this.useEnergy = energy -> energyContainer.extract(energy, Action.EXECUTE, AutomationType.INTERNAL);
         return this;
     }
@@ -209,6 +234,25 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
         return this;
     }
 
+    /**
+     * Sets the supplier that supplies how many ticks worth of processing this {@link CachedRecipe} should perform at once after it has been able to perform its baseline
+     * maximum number of operations without running into any errors for that many ticks in a row. Batching reduces the amount of work done each tick, as the inputs and
+     * outputs only have to be checked once per batch, but it means that the outputs get produced in bursts. The energy used and outputs produced for the batched ticks are
+     * the same as if each tick had been processed individually, and batches are limited to the number of ticks worth of energy that can be stored.
+     *
+     * @param batchTicks Supplies the number of ticks to batch together.
+     *
+     * @apiNote {@code batchTicks} should return a value of at least one, with values of one or lower disabling batching. Batching is not performed for recipes that use
+     * resources every tick, see {@link #supportsBatching()}.
+     * <br>
+     * If this method is not used, the {@code batchTicks} of this {@link CachedRecipe} defaults to returning one.
+     * @since 10.6.1
+     */
+    public CachedRecipe<RECIPE> setBatchTicks(IntSupplier batchTicks) {
+        this.batchTicks = Objects.requireNonNull(batchTicks, "Batch ticks cannot be null.");
+        return this;
+    }
+
     /**
      * Sets the callback that is run when this {@link CachedRecipe} completes processing of a recipe. This allows the {@link CachedRecipe} holder to do any extra handling
      * it needs to do such as marking the tile dirty and in need of saving.
@@ -270,14 +314,21 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
     private void updateErrors(Set<RecipeError> errors) {
         //Validate the errors actually changed as they potentially are just the same ones we found last go around
         if (!this.errors.equals(errors)) {
-            this.errors = errors;
-            if (this.errors.size() > 1) {
-                pausedForErrors = true;
-            } else {
-                pausedForErrors = !this.errors.contains(RecipeError.NOT_ENOUGH_ENERGY_REDUCED_RATE);
-            }
-            onErrorsChange.accept(errors);
+            //Copy the errors as the tracker's set gets reused the next time we process
+            this.errors = errors.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(new ObjectArraySet<>(errors));
+            pausedForErrors = shouldPauseFor(this.errors);
+            onErrorsChange.accept(this.errors);
+        }
+    }
+
+    /**
+     * @return {@code true} if the given errors stop processing until something changes.
+     */
+    private static boolean shouldPauseFor(Set<RecipeError> errors) {
+        if (errors.size() > 1) {
+            return true;
         }
+        return !errors.isEmpty() && !errors.contains(RecipeError.NOT_ENOUGH_ENERGY_REDUCED_RATE);
     }
 
     /**
@@ -311,10 +362,113 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
             setActive.accept(false);
             return;
         }
+        boolean canFunction = canHolderFunction.getAsBoolean();
+        int batchSize = getBatchSize();
+        if (batchSize > 1 && steadyTicks >= batchSize && supportsBatching()) {
+            if (canFunction) {
+                if (++batchedTicks < batchSize) {
+                    //Wait until we have a full batch worth of ticks, so that we can process them all at once
+                    return;
+                }
+                processBatch(batchedTicks, true);
+                return;
+            }
+        }
+        if (batchedTicks > 0) {
+            //Process the ticks we deferred before we stop batching
+            processBatch(batchedTicks, canFunction);
+            if (pausedForErrors) {
+                return;
+            }
+        }
+        processTick(canFunction);
+    }
+
+    /**
+     * Gets the number of ticks to batch together, limited to the number of ticks worth of energy that can be stored, as while ticks are deferred no energy gets used so
+     * any energy received past what can be stored would otherwise be lost.
+     */
+    private int getBatchSize() {
+        int batchSize = batchTicks.getAsInt();
+        if (batchSize > 1) {
+            FloatingLong energyPerTick = perTickEnergy.get();
+            if (!energyPerTick.isZero()) {
+                FloatingLong energyPerBatchTick = energyPerTick.multiply(Math.max(1, baselineMaxOperations.getAsInt()));
+                batchSize = Math.min(batchSize, maxEnergy.get().divideToInt(energyPerBatchTick));
+            }
+        }
+        return batchSize;
+    }
+
+    /**
+     * Attempts to process the given number of deferred ticks at once, falling back to processing them one at a time if not all of them are able to be processed at once.
+     */
+    private void processBatch(int ticks, boolean canFunction) {
+        batchedTicks = 0;
+        //Note: The deferred ticks were all ones where we were able to function, so we try to process them even if we can no longer function
+        if (!tryProcessBatch(ticks)) {
+            //Something changed that means we can't process the entire batch at once, process the deferred ticks as we would have normally,
+            // unless we are no longer able to function
+            for (int tick = 0; tick < ticks && !pausedForErrors; tick++) {
+                processTick(canFunction);
+            }
+            //And stop batching until we are back to running steadily
+            steadyTicks = 0;
+        }
+    }
+
+    /**
+     * @return {@code true} if the batch was able to be processed.
+     */
+    private boolean tryProcessBatch(int ticks) {
+        int ticksRequired = Math.max(1, requiredTicks.getAsInt());
+        int baselineOperations = baselineMaxOperations.getAsInt();
+        int finishes = (operatingTicks + ticks) / ticksRequired;
+        //Validate we have enough inputs and room for the outputs of all the times we will finish processing, or if we won't finish processing,
+        // that we have the inputs as we would validate when processing a single tick
+        long maxOperations = (long) baselineOperations * Math.max(1, finishes);
+        //And that we have enough energy for all the ticks being processed
+        long energyOperations = (long) baselineOperations * ticks;
+        if (maxOperations > Integer.MAX_VALUE || energyOperations > Integer.MAX_VALUE) {
+            return false;
+        }
+        FloatingLong energyPerTick = perTickEnergy.get();
+        if (!energyPerTick.isZero() && storedEnergy.get().divideToInt(energyPerTick) < energyOperations) {
+            return false;
+        }
+        setupVariableValues();
+        tracker.reset(errors, false, (int) maxOperations);
+        calculateOperationsThisTick(tracker);
+        if (tracker.shouldContinueChecking()) {
+            postProcessOperations.accept(tracker);
+        }
+        if (tracker.currentMax != maxOperations || !tracker.errors.isEmpty()) {
+            return false;
+        }
+        setActive.accept(true);
+        useEnergy((int) energyOperations);
+        //Note: We don't have to use any per tick resources as we only batch recipes that don't have any
+        operatingTicks = (operatingTicks + ticks) % ticksRequired;
+        if (finishes > 0) {
+            finishProcessing((int) maxOperations);
+            onFinish.run();
+            resetCache();
+        }
+        if (ticksRequired > 1) {
+            operatingTicksChanged.accept(operatingTicks);
+        }
+        return true;
+    }
+
+    /**
+     * Processes a single tick.
+     */
+    private void processTick(boolean canFunction) {
         int operations;
-        if (canHolderFunction.getAsBoolean()) {
+        int baselineOperations = baselineMaxOperations.getAsInt();
+        if (canFunction) {
             setupVariableValues();
-            OperationTracker tracker = new OperationTracker(errors, recheckAllErrors.getAsBoolean(), baselineMaxOperations.getAsInt());
+            tracker.reset(errors, recheckAllErrors.getAsBoolean(), baselineOperations);
             calculateOperationsThisTick(tracker);
             if (tracker.shouldContinueChecking()) {
                 postProcessOperations.accept(tracker);
@@ -330,12 +484,25 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
             if (tracker.hasErrorsToCopy()) {
                 updateErrors(tracker.errors);
             }
+            if (operations <= 0 && !pausedForErrors && shouldPauseFor(errors)) {
+                //If we are still stuck on the same errors as last time, pause again until something changes so that we don't
+                // have to re-validate the inputs and outputs every tick while nothing can be processed
+                pausedForErrors = true;
+            }
         } else {
             operations = 0;
             if (!errors.isEmpty()) {
                 updateErrors(Collections.emptySet());
             }
         }
+        if (operations == baselineOperations && errors.isEmpty()) {
+            //Keep track of how long we have been running at our max rate, so that we know when we can start batching ticks together
+            if (steadyTicks < Integer.MAX_VALUE) {
+                steadyTicks++;
+            }
+        } else {
+            steadyTicks = 0;
+        }
         if (operations > 0) {
             setActive.accept(true);
             //Always use energy, as that is a constant thing we can check
@@ -366,6 +533,17 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
         }
     }
 
+    /**
+     * @return {@code true} if this recipe is able to process multiple ticks at once when batching is enabled.
+     *
+     * @implNote Recipes that use resources each tick in {@link #useResources(int)} should return {@code false} as batching doesn't use the per tick resources.
+     * @see #setBatchTicks(IntSupplier)
+     * @since 10.6.1
+     */
+    protected boolean supportsBatching() {
+        return true;
+    }
+
     /**
      * Called to allow recipes to set up any variables they will need this tick to allow them to reduce the number of places they have to recalculate/retrieve a passed in
      * value.
@@ -488,11 +666,14 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
         /**
          * Set of all the errors from when the {@link CachedRecipe} last calculated the complete set of errors.
          */
-        private final Set<RecipeError> lastErrors;
+        private Set<RecipeError> lastErrors = Collections.emptySet();
         /**
          * Set of errors that the {@link CachedRecipe} has run into so far while calculating how many operations it can perform at once.
+         *
+         * @implNote This set is cleared and reused each time the tracker is reset. As we expect to have a small number of errors, we use an array set as it should be more
+         * efficient.
          */
-        private Set<RecipeError> errors = Collections.emptySet();
+        private final Set<RecipeError> errors = new ObjectArraySet<>();
         /**
          * Used to determine if this tracker should try and check for all existing errors ({@code true}) or short circuit as soon as it knows no processing can be done.
          */
@@ -512,16 +693,25 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
          */
         private int maxForEnergy;
 
+        private OperationTracker() {
+        }
+
         /**
+         * Resets this tracker so that it can be used for calculating the operations of another tick.
+         *
          * @param lastErrors  Set of the last errors the {@link CachedRecipe} had.
          * @param checkAll    {@code true} if this tracker should try and check for all existing errors.
          * @param startingMax Starting maximum number of operations that the {@link CachedRecipe} can perform this tick.
          */
-        private OperationTracker(Set<RecipeError> lastErrors, boolean checkAll, int startingMax) {
+        private void reset(Set<RecipeError> lastErrors, boolean checkAll, int startingMax) {
             this.lastErrors = lastErrors;
             this.checkAll = checkAll;
             this.currentMax = startingMax;
             this.maxForEnergy = currentMax;
+            this.checkedErrors = true;
+            if (!this.errors.isEmpty()) {
+                this.errors.clear();
+            }
         }
 
         /**
@@ -529,7 +719,7 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
          */
         private boolean hasErrorsToCopy() {
             if (currentMax == MISMATCHED_RECIPE) {
-                errors = Collections.emptySet();
+                errors.clear();
                 //Return true as if we have a mismatched recipe we want to clear any errors that exist
                 return true;
             } else if (checkAll || currentMax > 0) {
@@ -638,11 +828,6 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
          */
         public void addError(RecipeError error) {
             Objects.requireNonNull(error, "Error cannot be null.");
-            if (errors.isEmpty()) {
-                //If our set of errors is empty, then it is the default empty set, and we need to initialize it
-                // Note: As we expect to have a small number of errors, we use an array set as it should be more efficient
-                errors = new ObjectArraySet<>();
-            }
             //Add the error to our known errors
             if (errors.add(error)) {
                 // and if we didn't already know about that error, mark that we haven't compared our current errors
@@ -104,6 +104,12 @@ public class ChemicalDissolutionCachedRecipe extends CachedRecipe<ChemicalDissol
         return false;
     }
 
+    @Override
+    protected boolean supportsBatching() {
+        //We use chemicals every tick
+        return false;
+    }
+
     @Override
     protected void useResources(int operations) {
         super.useResources(operations);
@@ -126,6 +126,12 @@ public class ItemStackConstantChemicalToItemStackCachedRecipe<CHEMICAL extends C
         return false;
     }
 
+    @Override
+    protected boolean supportsBatching() {
+        //We use chemicals every tick
+        return false;
+    }
+
     @Override
     protected void useResources(int operations) {
         super.useResources(operations);
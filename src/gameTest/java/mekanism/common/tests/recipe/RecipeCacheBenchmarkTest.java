@@ -0,0 +1,433 @@
+package mekanism.common.tests.recipe;
+
+import com.mojang.logging.LogUtils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import mekanism.api.MekanismAPI;
+import mekanism.api.chemical.gas.Gas;
+import mekanism.api.chemical.gas.GasStack;
+import mekanism.api.datagen.recipe.builder.CombinerRecipeBuilder;
+import mekanism.api.datagen.recipe.builder.FluidToFluidRecipeBuilder;
+import mekanism.api.datagen.recipe.builder.ItemStackChemicalToItemStackRecipeBuilder;
+import mekanism.api.datagen.recipe.builder.ItemStackToItemStackRecipeBuilder;
+import mekanism.api.recipes.CombinerRecipe;
+import mekanism.api.recipes.FluidToFluidRecipe;
+import mekanism.api.recipes.ItemStackGasToItemStackRecipe;
+import mekanism.api.recipes.ItemStackToItemStackRecipe;
+import mekanism.api.recipes.MekanismRecipe;
+import mekanism.api.recipes.ingredients.FluidStackIngredient;
+import mekanism.api.recipes.ingredients.ItemStackIngredient;
+import mekanism.api.recipes.ingredients.creator.IngredientCreatorAccess;
+import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.lookup.cache.AbstractInputRecipeCache;
+import mekanism.common.recipe.lookup.cache.InputRecipeCache.DoubleItem;
+import mekanism.common.recipe.lookup.cache.InputRecipeCache.ItemChemical;
+import mekanism.common.recipe.lookup.cache.InputRecipeCache.SingleFluid;
+import mekanism.common.recipe.lookup.cache.InputRecipeCache.SingleItem;
+import mekanism.common.tests.MekanismTests;
+import mekanism.common.tests.helpers.MekGameTestHelper;
+import net.minecraft.advancements.Advancement;
+import net.minecraft.advancements.AdvancementHolder;
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.data.recipes.RecipeBuilder;
+import net.minecraft.data.recipes.RecipeOutput;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.material.Fluid;
+import net.minecraft.world.level.material.Fluids;
+import net.neoforged.neoforge.common.conditions.ICondition;
+import net.neoforged.neoforge.common.crafting.DataComponentIngredient;
+import net.neoforged.neoforge.fluids.FluidStack;
+import net.neoforged.neoforge.fluids.crafting.DataComponentFluidIngredient;
+import net.neoforged.testframework.annotation.ForEachTest;
+import net.neoforged.testframework.annotation.TestHolder;
+import net.neoforged.testframework.gametest.EmptyTemplate;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+/**
+ * Builds input recipe caches for synthetic recipe sets that are about the size of what a large modpack has, and logs how long the caches take to build, how much memory
+ * they take up, and how long lookups in them take.
+ *
+ * @implNote The caches built here are separate from the ones used by the recipe types, so the recipes that are actually loaded are not affected. The timings are only
+ * meant to be compared between runs on the same machine. As building the caches is slow, the benchmarks only run when the {@code mekanism.benchmarks} system property
+ * is set (for example by passing {@code -Pmekanism_benchmarks} to the game test run), and otherwise pass without doing anything.
+ */
+@ForEachTest(groups = "recipe.cache")
+public class RecipeCacheBenchmarkTest {
+
+    private static final Logger LOGGER = LogUtils.getLogger();
+    private static final int COMPONENT_RECIPES = 4_000;
+    private static final int PARTIAL_COMPONENT_RECIPES = 100;
+    private static final int ITERATIONS = 20;
+    private static final int FLUID_AMOUNT = 100;
+    private static final long GAS_AMOUNT = 1;
+    private static final boolean ENABLED = Boolean.getBoolean("mekanism.benchmarks");
+
+    @GameTest
+    @EmptyTemplate
+    @TestHolder(description = "Benchmarks the single item input cache against a synthetic set of crushing recipes.")
+    public static void benchmarkSingleItemCache(final MekGameTestHelper helper) {
+        if (skipIfDisabled(helper)) {
+            return;
+        }
+        Level level = helper.getLevel();
+        SyntheticCorpus corpus = new SyntheticCorpus();
+        for (int i = 0; i < corpus.items.size(); i += 2) {
+            //Only use every other item, so that the remaining items can be used to look up inputs that have no recipes
+            corpus.add(ItemStackToItemStackRecipeBuilder.crushing(IngredientCreatorAccess.item().from(corpus.items.get(i)), corpus.output()));
+        }
+        for (TagKey<Item> tag : corpus.tags) {
+            corpus.add(ItemStackToItemStackRecipeBuilder.crushing(IngredientCreatorAccess.item().from(tag), corpus.output()));
+        }
+        for (int i = 0; i < COMPONENT_RECIPES; i++) {
+            corpus.add(ItemStackToItemStackRecipeBuilder.crushing(corpus.componentIngredient(i), corpus.output()));
+        }
+        for (int i = 0; i < PARTIAL_COMPONENT_RECIPES; i++) {
+            corpus.add(ItemStackToItemStackRecipeBuilder.crushing(corpus.partialComponentIngredient(i), corpus.output()));
+        }
+        SingleItem<ItemStackToItemStackRecipe> cache = new SingleItem<>(MekanismRecipeType.CRUSHING.get(), ItemStackToItemStackRecipe::getInput);
+        build("single item", cache, corpus.<ItemStackToItemStackRecipe>recipes());
+
+        List<ItemStack> inputs = corpus.lookupInputs();
+        measure("single item containsInput", inputs, input -> cache.containsInput(level, input));
+        measure("single item findFirstRecipe", inputs, input -> cache.findFirstRecipe(level, input) != null);
+        measure("single item findTypeBasedRecipe", inputs, input -> cache.findTypeBasedRecipe(level, input) != null);
+
+        helper.succeedIf(() -> {
+            for (int i = 0; i < corpus.items.size(); i += 2) {
+                ItemStack input = new ItemStack(corpus.items.get(i));
+                helper.assertTrue(cache.findFirstRecipe(level, input) != null, "Expected a recipe for " + input);
+            }
+            for (int i = 0; i < COMPONENT_RECIPES; i++) {
+                ItemStack input = corpus.componentStack(i);
+                helper.assertTrue(cache.containsInput(level, input), "Expected a recipe for " + input);
+            }
+        });
+    }
+
+    @GameTest
+    @EmptyTemplate
+    @TestHolder(description = "Benchmarks the double item input cache against a synthetic set of combining recipes.")
+    public static void benchmarkDoubleItemCache(final MekGameTestHelper helper) {
+        if (skipIfDisabled(helper)) {
+            return;
+        }
+        Level level = helper.getLevel();
+        SyntheticCorpus corpus = new SyntheticCorpus();
+        for (int i = 0; i + 1 < corpus.items.size(); i += 2) {
+            corpus.add(CombinerRecipeBuilder.combining(IngredientCreatorAccess.item().from(corpus.items.get(i)),
+                  IngredientCreatorAccess.item().from(corpus.items.get(i + 1)), corpus.output()));
+        }
+        for (TagKey<Item> tag : corpus.tags) {
+            corpus.add(CombinerRecipeBuilder.combining(IngredientCreatorAccess.item().from(tag), IngredientCreatorAccess.item().from(Items.COBBLESTONE),
+                  corpus.output()));
+        }
+        for (int i = 0; i < COMPONENT_RECIPES; i++) {
+            corpus.add(CombinerRecipeBuilder.combining(corpus.componentIngredient(i), IngredientCreatorAccess.item().from(Items.COBBLESTONE), corpus.output()));
+        }
+        for (int i = 0; i < PARTIAL_COMPONENT_RECIPES; i++) {
+            corpus.add(CombinerRecipeBuilder.combining(corpus.partialComponentIngredient(i), IngredientCreatorAccess.item().from(Items.COBBLESTONE), corpus.output()));
+        }
+        DoubleItem<CombinerRecipe> cache = new DoubleItem<>(MekanismRecipeType.COMBINING.get(), CombinerRecipe::getMainInput, CombinerRecipe::getExtraInput);
+        build("double item", cache, corpus.<CombinerRecipe>recipes());
+
+        List<ItemStack> inputs = corpus.lookupInputs();
+        ItemStack extra = new ItemStack(Items.COBBLESTONE);
+        measure("double item containsInputA", inputs, input -> cache.containsInputA(level, input));
+        measure("double item containsInputAB", inputs, input -> cache.containsInputAB(level, input, extra));
+        measure("double item findFirstRecipe", inputs, input -> cache.findFirstRecipe(level, input, extra) != null);
+
+        helper.succeedIf(() -> {
+            for (int i = 0; i < COMPONENT_RECIPES; i++) {
+                ItemStack input = corpus.componentStack(i);
+                helper.assertTrue(cache.findFirstRecipe(level, input, extra) != null, "Expected a recipe for " + input);
+            }
+        });
+    }
+
+    @GameTest
+    @EmptyTemplate
+    @TestHolder(description = "Benchmarks the single fluid input cache against a synthetic set of evaporating recipes.")
+    public static void benchmarkSingleFluidCache(final MekGameTestHelper helper) {
+        if (skipIfDisabled(helper)) {
+            return;
+        }
+        Level level = helper.getLevel();
+        SyntheticCorpus corpus = new SyntheticCorpus();
+        for (Fluid fluid : corpus.fluids) {
+            corpus.add(FluidToFluidRecipeBuilder.evaporating(IngredientCreatorAccess.fluid().from(fluid, FLUID_AMOUNT), corpus.fluidOutput()));
+        }
+        for (TagKey<Fluid> tag : corpus.fluidTags) {
+            corpus.add(FluidToFluidRecipeBuilder.evaporating(IngredientCreatorAccess.fluid().from(tag, FLUID_AMOUNT), corpus.fluidOutput()));
+        }
+        for (int i = 0; i < COMPONENT_RECIPES; i++) {
+            corpus.add(FluidToFluidRecipeBuilder.evaporating(corpus.componentFluidIngredient(i), corpus.fluidOutput()));
+        }
+        for (int i = 0; i < PARTIAL_COMPONENT_RECIPES; i++) {
+            //Note: Creating an ingredient from a stack with components makes a non-strict component ingredient
+            corpus.add(FluidToFluidRecipeBuilder.evaporating(IngredientCreatorAccess.fluid().from(corpus.fluidStack(i, "partial_")), corpus.fluidOutput()));
+        }
+        SingleFluid<FluidToFluidRecipe> cache = new SingleFluid<>(MekanismRecipeType.EVAPORATING.get(), FluidToFluidRecipe::getInput);
+        build("single fluid", cache, corpus.<FluidToFluidRecipe>recipes());
+
+        List<FluidStack> inputs = corpus.fluidLookupInputs();
+        measure("single fluid containsInput", inputs, input -> cache.containsInput(level, input));
+        measure("single fluid findFirstRecipe", inputs, input -> cache.findFirstRecipe(level, input) != null);
+        measure("single fluid findTypeBasedRecipe", inputs, input -> cache.findTypeBasedRecipe(level, input) != null);
+
+        helper.succeedIf(() -> {
+            for (Fluid fluid : corpus.fluids) {
+                FluidStack input = new FluidStack(fluid, FLUID_AMOUNT);
+                helper.assertTrue(cache.findFirstRecipe(level, input) != null, "Expected a recipe for " + input);
+            }
+            for (int i = 0; i < COMPONENT_RECIPES; i++) {
+                FluidStack input = corpus.fluidStack(i, "synthetic_");
+                helper.assertTrue(cache.containsInput(level, input), "Expected a recipe for " + input);
+            }
+        });
+    }
+
+    @GameTest
+    @EmptyTemplate
+    @TestHolder(description = "Benchmarks the item chemical input cache against a synthetic set of injecting recipes.")
+    public static void benchmarkItemChemicalCache(final MekGameTestHelper helper) {
+        if (skipIfDisabled(helper)) {
+            return;
+        }
+        Level level = helper.getLevel();
+        SyntheticCorpus corpus = new SyntheticCorpus();
+        for (int i = 0; i < corpus.items.size(); i += 2) {
+            //Only use every other item, so that the remaining items can be used to look up inputs that have no recipes
+            corpus.add(ItemStackChemicalToItemStackRecipeBuilder.injecting(IngredientCreatorAccess.item().from(corpus.items.get(i)),
+                  IngredientCreatorAccess.gasStack().from(corpus.gas(i), GAS_AMOUNT), corpus.output()));
+        }
+        for (TagKey<Gas> tag : corpus.gasTags) {
+            corpus.add(ItemStackChemicalToItemStackRecipeBuilder.injecting(IngredientCreatorAccess.item().from(Items.COBBLESTONE),
+                  IngredientCreatorAccess.gasStack().from(tag, GAS_AMOUNT), corpus.output()));
+        }
+        for (int i = 0; i < COMPONENT_RECIPES; i++) {
+            corpus.add(ItemStackChemicalToItemStackRecipeBuilder.injecting(corpus.componentIngredient(i), IngredientCreatorAccess.gasStack().from(corpus.gas(i), GAS_AMOUNT),
+                  corpus.output()));
+        }
+        for (int i = 0; i < PARTIAL_COMPONENT_RECIPES; i++) {
+            corpus.add(ItemStackChemicalToItemStackRecipeBuilder.injecting(corpus.partialComponentIngredient(i),
+                  IngredientCreatorAccess.gasStack().from(corpus.gas(i), GAS_AMOUNT), corpus.output()));
+        }
+        ItemChemical<Gas, GasStack, ItemStackGasToItemStackRecipe> cache = new ItemChemical<>(MekanismRecipeType.INJECTING.get(),
+              ItemStackGasToItemStackRecipe::getItemInput, ItemStackGasToItemStackRecipe::getChemicalInput);
+        build("item chemical", cache, corpus.<ItemStackGasToItemStackRecipe>recipes());
+
+        List<ItemStack> inputs = corpus.lookupInputs();
+        GasStack extra = new GasStack(corpus.gas(0), GAS_AMOUNT);
+        measure("item chemical containsInputA", inputs, input -> cache.containsInputA(level, input));
+        measure("item chemical containsInputB", corpus.gases, gas -> cache.containsInputB(level, new GasStack(gas, GAS_AMOUNT)));
+        measure("item chemical containsInputAB", inputs, input -> cache.containsInputAB(level, input, extra));
+        measure("item chemical findFirstRecipe", inputs, input -> cache.findFirstRecipe(level, input, extra) != null);
+
+        helper.succeedIf(() -> {
+            for (int i = 0; i < corpus.items.size(); i += 2) {
+                ItemStack input = new ItemStack(corpus.items.get(i));
+                GasStack gas = new GasStack(corpus.gas(i), GAS_AMOUNT);
+                helper.assertTrue(cache.findFirstRecipe(level, input, gas) != null, "Expected a recipe for " + input + " and " + gas);
+            }
+            for (int i = 0; i < COMPONENT_RECIPES; i++) {
+                ItemStack input = corpus.componentStack(i);
+                helper.assertTrue(cache.containsInputA(level, input), "Expected a recipe for " + input);
+            }
+        });
+    }
+
+    private static boolean skipIfDisabled(MekGameTestHelper helper) {
+        if (ENABLED) {
+            return false;
+        }
+        helper.succeed();
+        return true;
+    }
+
+    private static <RECIPE extends MekanismRecipe<?>> void build(String name, AbstractInputRecipeCache<RECIPE> cache, List<RecipeHolder<RECIPE>> recipes) {
+        long memoryBefore = usedMemory();
+        long start = System.nanoTime();
+        cache.buildFrom(recipes);
+        long buildTime = System.nanoTime() - start;
+        long memoryAfter = usedMemory();
+        LOGGER.info("Built {} cache for {} recipes in {} ms, using roughly {} KiB", name, recipes.size(), TimeUnit.NANOSECONDS.toMillis(buildTime),
+              Math.max(0, memoryAfter - memoryBefore) / 1_024);
+    }
+
+    private static long usedMemory() {
+        //Note: This is only a rough estimate, as there is no guarantee that the garbage collector actually runs
+        Runtime runtime = Runtime.getRuntime();
+        runtime.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static <INPUT> void measure(String name, List<INPUT> inputs, Predicate<INPUT> lookup) {
+        //Warm up the lookup so that it has a chance to be compiled before we start measuring
+        int matches = 0;
+        for (INPUT input : inputs) {
+            if (lookup.test(input)) {
+                matches++;
+            }
+        }
+        long start = System.nanoTime();
+        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            for (INPUT input : inputs) {
+                lookup.test(input);
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        LOGGER.info("{}: {} ns per lookup over {} inputs ({} matched)", name, elapsed / ((long) ITERATIONS * inputs.size()), inputs.size(), matches);
+    }
+
+    /**
+     * Generates synthetic recipes using the same recipe builders as our datagen, collecting them rather than writing them to files.
+     */
+    private static class SyntheticCorpus implements RecipeOutput {
+
+        private final List<RecipeHolder<?>> recipes = new ArrayList<>();
+        private final List<Item> items = new ArrayList<>();
+        private final List<TagKey<Item>> tags = BuiltInRegistries.ITEM.getTagNames().toList();
+        private final List<Fluid> fluids = new ArrayList<>();
+        private final List<TagKey<Fluid>> fluidTags = BuiltInRegistries.FLUID.getTagNames().toList();
+        private final List<Gas> gases = new ArrayList<>();
+        private final List<TagKey<Gas>> gasTags = MekanismAPI.GAS_REGISTRY.getTagNames().toList();
+
+        private SyntheticCorpus() {
+            for (Item item : BuiltInRegistries.ITEM) {
+                if (item != Items.AIR) {
+                    items.add(item);
+                }
+            }
+            for (Fluid fluid : BuiltInRegistries.FLUID) {
+                if (fluid != Fluids.EMPTY) {
+                    fluids.add(fluid);
+                }
+            }
+            for (Gas gas : MekanismAPI.GAS_REGISTRY) {
+                if (!gas.isEmptyType()) {
+                    gases.add(gas);
+                }
+            }
+        }
+
+        private ItemStack output() {
+            return new ItemStack(Items.STONE);
+        }
+
+        private FluidStack fluidOutput() {
+            return new FluidStack(Fluids.WATER, FLUID_AMOUNT);
+        }
+
+        private Gas gas(int index) {
+            return gases.get(index % gases.size());
+        }
+
+        private FluidStack fluidStack(int index, String prefix) {
+            FluidStack stack = new FluidStack(fluids.get(index % fluids.size()), FLUID_AMOUNT);
+            stack.set(DataComponents.CUSTOM_NAME, Component.literal(prefix + index));
+            return stack;
+        }
+
+        private FluidStackIngredient componentFluidIngredient(int index) {
+            return IngredientCreatorAccess.fluid().from(DataComponentFluidIngredient.of(true, fluidStack(index, "synthetic_")), FLUID_AMOUNT);
+        }
+
+        private ItemStack componentStack(int index) {
+            ItemStack stack = new ItemStack(items.get(index % items.size()));
+            stack.set(DataComponents.CUSTOM_NAME, Component.literal("synthetic_" + index));
+            return stack;
+        }
+
+        private ItemStackIngredient componentIngredient(int index) {
+            return IngredientCreatorAccess.item().from(DataComponentIngredient.of(true, componentStack(index)));
+        }
+
+        private ItemStackIngredient partialComponentIngredient(int index) {
+            //Note: Non-strict component ingredients can't be looked up directly, so they have to be tested against the components of each input
+            return IngredientCreatorAccess.item().from(DataComponentIngredient.of(false, DataComponents.CUSTOM_NAME, Component.literal("partial_" + index),
+                  items.get(index % items.size())));
+        }
+
+        /**
+         * Gets a mix of inputs to look up, including plain items that may or may not have recipes, items that have component based recipes, and items with components
+         * that don't match any recipes.
+         */
+        private List<ItemStack> lookupInputs() {
+            List<ItemStack> inputs = new ArrayList<>();
+            for (Item item : items) {
+                inputs.add(new ItemStack(item));
+            }
+            for (int i = 0; i < COMPONENT_RECIPES; i += 4) {
+                inputs.add(componentStack(i));
+                ItemStack unmatched = new ItemStack(items.get(i % items.size()));
+                unmatched.set(DataComponents.CUSTOM_NAME, Component.literal("unmatched_" + i));
+                inputs.add(unmatched);
+            }
+            return inputs;
+        }
+
+        /**
+         * Gets a mix of fluid inputs to look up, including plain fluids, fluids that have component based recipes, and fluids with components that don't match any
+         * recipes.
+         */
+        private List<FluidStack> fluidLookupInputs() {
+            List<FluidStack> inputs = new ArrayList<>();
+            for (Fluid fluid : fluids) {
+                inputs.add(new FluidStack(fluid, FLUID_AMOUNT));
+            }
+            for (int i = 0; i < COMPONENT_RECIPES; i += 4) {
+                inputs.add(fluidStack(i, "synthetic_"));
+                inputs.add(fluidStack(i, "unmatched_"));
+            }
+            return inputs;
+        }
+
+        private void add(ItemStackToItemStackRecipeBuilder builder) {
+            builder.build(this, id());
+        }
+
+        private void add(CombinerRecipeBuilder builder) {
+            builder.build(this, id());
+        }
+
+        private void add(FluidToFluidRecipeBuilder builder) {
+            builder.build(this, id());
+        }
+
+        private void add(ItemStackChemicalToItemStackRecipeBuilder<?, ?, ?> builder) {
+            builder.build(this, id());
+        }
+
+        private ResourceLocation id() {
+            return MekanismTests.rl("synthetic/" + recipes.size());
+        }
+
+        @SuppressWarnings("unchecked")
+        private <RECIPE extends MekanismRecipe<?>> List<RecipeHolder<RECIPE>> recipes() {
+            return (List<RecipeHolder<RECIPE>>) (List<?>) recipes;
+        }
+
+        @Override
+        public Advancement.Builder advancement() {
+            return Advancement.Builder.recipeAdvancement().parent(RecipeBuilder.ROOT_RECIPE_ADVANCEMENT);
+        }
+
+        @Override
+        public void accept(ResourceLocation id, Recipe<?> recipe, @Nullable AdvancementHolder advancement, ICondition... conditions) {
+            recipes.add(new RecipeHolder<>(id, recipe));
+        }
+    }
+}
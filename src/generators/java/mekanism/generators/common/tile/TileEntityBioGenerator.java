@@ -88,6 +88,11 @@ public class TileEntityBioGenerator extends TileEntityGenerator {
         return sendUpdatePacket;
     }
 
+    @Override
+    protected boolean isOutOfFuel() {
+        return bioFuelTank.isEmpty();
+    }
+
     @NotNull
     @Override
     public CompoundTag getReducedUpdateTag(@NotNull HolderLookup.Provider provider) {
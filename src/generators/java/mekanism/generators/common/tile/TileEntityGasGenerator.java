@@ -117,6 +117,11 @@ public class TileEntityGasGenerator extends TileEntityGenerator {
         return sendUpdatePacket;
     }
 
+    @Override
+    protected boolean isOutOfFuel() {
+        return fuelTank.isEmpty() && burnTicks == 0;
+    }
+
     private void reset() {
         burnTicks = 0;
         maxBurnTicks = 0;
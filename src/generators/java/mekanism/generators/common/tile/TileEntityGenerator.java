@@ -73,6 +73,21 @@ public abstract class TileEntityGenerator extends TileEntityMekanism {
         return sendUpdatePacket;
     }
 
+    /**
+     * @return {@code true} if this generator has run out of fuel and can't produce any more power until more fuel is added.
+     *
+     * @implNote Defaults to {@code false} as generators that produce power from their surroundings need to keep ticking to check them.
+     */
+    protected boolean isOutOfFuel() {
+        return false;
+    }
+
+    @Override
+    protected boolean isIdle() {
+        //Note: We can't tell when the things we emit to have room for more energy, so we need to keep ticking until we have nothing left to emit
+        return isOutOfFuel() && energyContainer.isEmpty();
+    }
+
     @Override
     protected void invalidateDirectionCaches(Direction newDirection) {
         super.invalidateDirectionCaches(newDirection);
@@ -326,7 +326,11 @@ public class ClientTickHandler {
         // We ignore this fact and only clear the cache in the recipes updated event however, as the cache should already be
         // empty on our initial connection, and even if it isn't the client has no way to query the recipes and cause the
         // caches to be initialized before the tags are then received as we lazily initialize our recipe caches.
-        MekanismRecipeType.clearCache();
+        if (!Minecraft.getInstance().isLocalServer()) {
+            //Note: When connected to the integrated server the recipe caches are shared with it, and it already rebuilt them with the same recipes and tags after
+            // reloading, so we don't clear them as then they would just have to be built again on the first lookup
+            MekanismRecipeType.clearCache();
+        }
     }
 
     @SubscribeEvent
@@ -21,15 +21,18 @@ import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.renderer.texture.TextureAtlasSprite;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.BubbleColumnBlock;
 import net.minecraft.world.level.block.LiquidBlock;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.level.material.Fluid;
 import net.minecraft.world.level.material.Fluids;
 import net.minecraft.world.phys.BlockHitResult;
@@ -38,7 +41,9 @@ import org.jetbrains.annotations.NotNull;
 
 public class GuiSeismicReader extends GuiMekanism<SeismicReaderContainer> {
 
-    private final List<BlockInfo<?>> blockList = new ArrayList<>();
+    //Distinct blocks in the column, the column itself is stored as indices into this as most columns only contain a handful of distinct states
+    private final List<BlockInfo<?>> palette = new ArrayList<>();
+    private final int[] column;
     private final Reference2IntMap<Block> frequencies = new Reference2IntOpenHashMap<>();
     private final int minHeight;
     private MekanismButton upButton;
@@ -53,33 +58,62 @@ public class GuiSeismicReader extends GuiMekanism<SeismicReaderContainer> {
         Level level = player.level();
         this.minHeight = level.getMinBuildHeight();
         BlockPos pos = player.blockPosition();
-        //Calculate all the blocks in the column
-        for (BlockPos p : BlockPos.betweenClosed(new BlockPos(pos.getX(), minHeight, pos.getZ()), pos)) {
-            BlockState state = level.getBlockState(p);
-            //Try to get the clone item stack as maybe it has one, though it might not have a corresponding block
-            ItemStack stack = state.getCloneItemStack(new BlockHitResult(p.getCenter().relative(Direction.UP, 0.5), Direction.UP, p, false), level, p, player);
-            if (stack.isEmpty()) {
-                Fluid fluid = Fluids.EMPTY;
-                if (state.getBlock() instanceof LiquidBlock liquidBlock) {
-                    fluid = liquidBlock.fluid;
-                } else if (state.getBlock() instanceof BubbleColumnBlock) {
-                    fluid = level.getFluidState(p).getType();
-                }
-                if (fluid == Fluids.EMPTY) {
-                    blockList.add(new BlockInfo<>(state, state, null));
-                } else {
-                    blockList.add(new BlockInfo<>(state, fluid, (graphics, f, x, y) -> {
-                        IClientFluidTypeExtensions properties = IClientFluidTypeExtensions.of(f);
-                        MekanismRenderer.color(graphics, properties.getTintColor());
-                        TextureAtlasSprite texture = MekanismRenderer.getSprite(properties.getStillTexture());
-                        graphics.blit(x, y, 0, 16, 16, texture);
-                        MekanismRenderer.resetColor(graphics);
-                    }));
-                }
+        column = new int[Math.max(0, pos.getY() - minHeight + 1)];
+        //Calculate all the blocks in the column, reading the states directly from the chunk's sections
+        LevelChunk chunk = level.getChunkAt(pos);
+        int relativeX = SectionPos.sectionRelative(pos.getX());
+        int relativeZ = SectionPos.sectionRelative(pos.getZ());
+        Reference2IntMap<BlockState> paletteIndices = new Reference2IntOpenHashMap<>();
+        paletteIndices.defaultReturnValue(-1);
+        for (int layer = 0; layer < column.length; layer++) {
+            int y = minHeight + layer;
+            BlockState state;
+            if (level.isOutsideBuildHeight(y)) {
+                //Note: This can happen if the player is above the max build height, match what Level#getBlockState would return
+                state = Blocks.VOID_AIR.defaultBlockState();
             } else {
-                blockList.add(new BlockInfo<>(state, stack, this::renderItem));
+                state = chunk.getSection(chunk.getSectionIndex(y)).getBlockState(relativeX, SectionPos.sectionRelative(y), relativeZ);
+            }
+            //Note: States with block entities may have a different clone stack at each position, so we don't share them
+            int index = state.hasBlockEntity() ? -1 : paletteIndices.getInt(state);
+            if (index == -1) {
+                index = palette.size();
+                palette.add(createInfo(level, player, state, new BlockPos(pos.getX(), y, pos.getZ())));
+                if (!state.hasBlockEntity()) {
+                    paletteIndices.put(state, index);
+                }
+            }
+            column[layer] = index;
+            frequencies.mergeInt(state.getBlock(), 1, Integer::sum);
+        }
+    }
+
+    private BlockInfo<?> createInfo(Level level, Player player, BlockState state, BlockPos p) {
+        //Try to get the clone item stack as maybe it has one, though it might not have a corresponding block
+        ItemStack stack = state.getCloneItemStack(new BlockHitResult(p.getCenter().relative(Direction.UP, 0.5), Direction.UP, p, false), level, p, player);
+        if (stack.isEmpty()) {
+            Fluid fluid = Fluids.EMPTY;
+            if (state.getBlock() instanceof LiquidBlock liquidBlock) {
+                fluid = liquidBlock.fluid;
+            } else if (state.getBlock() instanceof BubbleColumnBlock) {
+                fluid = level.getFluidState(p).getType();
+            }
+            if (fluid == Fluids.EMPTY) {
+                return new BlockInfo<>(state, state, null);
             }
+            return new BlockInfo<>(state, fluid, (graphics, f, x, y) -> {
+                IClientFluidTypeExtensions properties = IClientFluidTypeExtensions.of(f);
+                MekanismRenderer.color(graphics, properties.getTintColor());
+                TextureAtlasSprite texture = MekanismRenderer.getSprite(properties.getStillTexture());
+                graphics.blit(x, y, 0, 16, 16, texture);
+                MekanismRenderer.resetColor(graphics);
+            });
         }
+        return new BlockInfo<>(state, stack, this::renderItem);
+    }
+
+    private BlockInfo<?> getInfo(int layer) {
+        return palette.get(column[layer]);
     }
 
     @Override
@@ -87,11 +121,11 @@ public class GuiSeismicReader extends GuiMekanism<SeismicReaderContainer> {
         super.addGuiElements();
         addRenderableWidget(new GuiInnerScreen(this, 7, 11, 63, 49));
         addRenderableWidget(new GuiInnerScreen(this, 74, 11, 51, 159));
-        scrollBar = addRenderableWidget(new GuiScrollBar(this, 126, 25, 131, blockList::size, () -> 1));
+        scrollBar = addRenderableWidget(new GuiScrollBar(this, 126, 25, 131, () -> column.length, () -> 1));
         addRenderableWidget(new GuiArrowSelection(this, 76, 81, () -> {
             int currentLayer = scrollBar.getCurrentSelection();
             if (currentLayer >= 0) {
-                return blockList.get(blockList.size() - 1 - currentLayer).block().getName();
+                return getInfo(column.length - 1 - currentLayer).block().getName();
             }
             return null;
         }));
@@ -111,12 +145,12 @@ public class GuiSeismicReader extends GuiMekanism<SeismicReaderContainer> {
     private void updateEnabledButtons() {
         int currentLayer = scrollBar.getCurrentSelection();
         upButton.active = currentLayer > 0;
-        downButton.active = currentLayer + 1 < blockList.size();
+        downButton.active = currentLayer + 1 < column.length;
     }
 
     @Override
     protected void drawForegroundText(@NotNull GuiGraphics guiGraphics, int mouseX, int mouseY) {
-        int currentLayer = blockList.size() - scrollBar.getCurrentSelection() - 1;
+        int currentLayer = column.length - scrollBar.getCurrentSelection() - 1;
         //Render the layer text scaled, so that it does not start overlapping past 100
         drawTextScaledBound(guiGraphics, TextComponentUtil.build(minHeight + currentLayer), 111, 87, screenTextColor(), 13);
 
@@ -124,8 +158,8 @@ public class GuiSeismicReader extends GuiMekanism<SeismicReaderContainer> {
         //Render the item stacks or fluids
         for (int i = 0; i < 9; i++) {
             int layer = currentLayer + (i - 4);
-            if (0 <= layer && layer < blockList.size()) {
-                BlockInfo<?> info = blockList.get(layer);
+            if (0 <= layer && layer < column.length) {
+                BlockInfo<?> info = getInfo(layer);
                 if (info.renderTarget == null) {
                     continue;
                 }
@@ -151,19 +185,10 @@ public class GuiSeismicReader extends GuiMekanism<SeismicReaderContainer> {
         int frequency = 0;
         // Get the name from the stack and render it
         if (currentLayer >= 0) {
-            Block block = blockList.get(currentLayer).block();
+            Block block = getInfo(currentLayer).block();
             Component displayName = block.getName();
             drawTextScaledBound(guiGraphics, displayName, 10, 16, screenTextColor(), 57);
-            if (frequencies.containsKey(block)) {
-                frequency = frequencies.getInt(block);
-            } else {
-                for (BlockInfo<?> info : blockList) {
-                    if (info.state().is(block)) {
-                        frequency++;
-                    }
-                }
-                frequencies.put(block, frequency);
-            }
+            frequency = frequencies.getInt(block);
         }
         drawTextScaledBound(guiGraphics, MekanismLang.ABUNDANCY.translate(frequency), 10, 26, screenTextColor(), 57);
         super.drawForegroundText(guiGraphics, mouseX, mouseY);
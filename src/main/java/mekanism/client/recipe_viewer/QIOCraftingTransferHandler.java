@@ -38,7 +38,6 @@ import mekanism.common.network.PacketUtils;
 import mekanism.common.network.to_server.qio.PacketQIOFillCraftingWindow;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.entity.player.Player;
-import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.CraftingInput;
 import net.minecraft.world.item.crafting.CraftingRecipe;
@@ -215,49 +214,16 @@ public class QIOCraftingTransferHandler {
             //After doing the quicker exact match lookup checks, go through any potentially missing slots
             // and do the slower more "accurate" check of if the stacks match. This allows us to use JEI's
             // system for letting mods declare what things match when it comes down to NBT
-            Map<HashedItem, ITEM_UUID> cachedIngredientUUIDs = new HashMap<>();
-            for (Map.Entry<HashedItem, HashedItemSource> entry : qioTransferHelper.reverseLookup.entrySet()) {
-                HashedItemSource source = entry.getValue();
-                if (source.hasMoreRemaining()) {
-                    //Only look at the source if we still have more items available in it
-                    HashedItem storedHashedItem = entry.getKey();
-                    Item storedItemType = storedHashedItem.getItem();
-                    ITEM_UUID storedItemUUID = null;
-                    for (ByteIterator missingIterator = missingSlots.iterator(); missingIterator.hasNext(); ) {
-                        byte index = missingIterator.nextByte();
-                        for (HashedItem validIngredient : hashedIngredients.get(index).representations()) {
-                            //Compare the raw item types
-                            if (storedItemType == validIngredient.getItem()) {
-                                //If they match, compute the identifiers for both stacks as needed
-                                if (storedItemUUID == null) {
-                                    //If we haven't retrieved a UUID for the stored stack yet because none of our previous ingredients
-                                    // matched the basic item type, retrieve it
-                                    storedItemUUID = recipeHelper.itemUUID(storedHashedItem);
-                                }
-                                //Next compute the UUID for the ingredient we are missing if we haven't already calculated it
-                                // either in a previous iteration or for a different slot
-                                ITEM_UUID ingredientUUID = cachedIngredientUUIDs.computeIfAbsent(validIngredient, recipeHelper::itemUUID);
-                                if (storedItemUUID.equals(ingredientUUID)) {
-                                    //If the items are equivalent, reduce how much of the item we have as an input
-                                    source.matchFound();
-                                    // unmark that the slot is missing a match
-                                    missingIterator.remove();
-                                    // and mark which HashedItem the slot's index corresponds to
-                                    matchedItems.computeIfAbsent(storedHashedItem, item -> new ByteArrayList()).add(index);
-                                    // and stop checking the other possible inputs
-                                    break;
-                                }
-                            }
-                        }
-                        if (!source.hasMoreRemaining()) {
-                            //If we have "used up" all the input we have available then continue onto the next stored stack
-                            break;
-                        }
-                    }
-                    if (missingSlots.isEmpty()) {
-                        //If we have accounted for all the slots, stop checking for matches
-                        break;
-                    }
+            //Note: This cache is used for both the stored types and the ingredients, as equal hashed items will always have the same identifier
+            Map<HashedItem, ITEM_UUID> cachedUUIDs = new HashMap<>();
+            for (ByteIterator missingIterator = missingSlots.iterator(); missingIterator.hasNext(); ) {
+                byte index = missingIterator.nextByte();
+                HashedItem storedHashedItem = findEquivalentSource(recipeHelper, qioTransferHelper, hashedIngredients.get(index).representations(), cachedUUIDs);
+                if (storedHashedItem != null) {
+                    //If we found an equivalent item, unmark that the slot is missing a match
+                    missingIterator.remove();
+                    // and mark which HashedItem the slot's index corresponds to
+                    matchedItems.computeIfAbsent(storedHashedItem, item -> new ByteArrayList()).add(index);
                 }
             }
             if (!missingSlots.isEmpty()) {
@@ -351,6 +317,34 @@ public class QIOCraftingTransferHandler {
         return null;
     }
 
+    /**
+     * Does the slower more "accurate" check of if any of the stored stacks are equivalent to one of the valid ingredients for a slot, and if so marks that a match was
+     * found for the corresponding source.
+     *
+     * @implNote Only stored types with the same raw item type as the ingredient are compared, rather than checking every stored type.
+     */
+    @Nullable
+    private static <ITEM_UUID> HashedItem findEquivalentSource(RVRecipeInfo<?, ?, ITEM_UUID> recipeHelper, QIOCraftingTransferHelper qioTransferHelper,
+          Set<HashedItem> representations, Map<HashedItem, ITEM_UUID> cachedUUIDs) {
+        for (HashedItem validIngredient : representations) {
+            for (HashedItem storedHashedItem : qioTransferHelper.getTypesForItem(validIngredient.getItem())) {
+                HashedItemSource source = qioTransferHelper.getSource(storedHashedItem);
+                //Only look at the source if we still have more items available in it
+                if (source != null && source.hasMoreRemaining()) {
+                    //Compute the identifiers for both stacks as needed, if we haven't already calculated them in a previous iteration or for a different slot
+                    ITEM_UUID storedItemUUID = cachedUUIDs.computeIfAbsent(storedHashedItem, recipeHelper::itemUUID);
+                    ITEM_UUID ingredientUUID = cachedUUIDs.computeIfAbsent(validIngredient, recipeHelper::itemUUID);
+                    if (storedItemUUID.equals(ingredientUUID)) {
+                        //If the items are equivalent, reduce how much of the item we have as an input
+                        source.matchFound();
+                        return storedHashedItem;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
     private static <RESULT> RESULT invalidSource(RVRecipeInfo<RESULT, ?, ?> recipeHelper, @NotNull HashedItem type) {
         Mekanism.logger.warn("Error finding source for: {} with components: {}. This should not be possible.", type.getItem(), type.getInternalStack().getComponentsPatch());
         return recipeHelper.createInternalError();
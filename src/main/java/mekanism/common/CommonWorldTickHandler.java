@@ -11,6 +11,8 @@ import java.util.function.Predicate;
 import mekanism.api.SerializationConstants;
 import mekanism.api.security.IBlockSecurityUtils;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.content.gear.VeinMiningScheduler;
+import mekanism.common.content.miner.MinerChangeTracker;
 import mekanism.common.content.qio.IQIOCraftingWindowHolder;
 import mekanism.common.content.qio.QIOGlobalItemLookup;
 import mekanism.common.inventory.container.item.PortableQIODashboardContainer;
@@ -112,6 +114,14 @@ public class CommonWorldTickHandler {
         }
     }
 
+    @SubscribeEvent
+    public void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+        if (event.getLevel() instanceof Level level && !level.isClientSide()) {
+            //Let any miners that have the position in range know that the block changed
+            MinerChangeTracker.onBlockChanged(level, event.getPos());
+        }
+    }
+
     @SubscribeEvent(priority = EventPriority.HIGHEST)
     public synchronized void chunkSave(ChunkDataEvent.Save event) {
         LevelAccessor world = event.getLevel();
@@ -180,6 +190,7 @@ public class CommonWorldTickHandler {
     public void onTick(ServerTickEvent.Post event) {
         FrequencyManager.tick();
         RadiationManager.get().tickServer();
+        VeinMiningScheduler.tick();
     }
 
     @SubscribeEvent
@@ -36,8 +36,11 @@ import mekanism.common.content.evaporation.EvaporationValidator;
 import mekanism.common.content.gear.MekaSuitDispenseBehavior;
 import mekanism.common.content.gear.ModuleDispenseBehavior;
 import mekanism.common.content.gear.ModuleHelper;
+import mekanism.common.content.gear.VeinMiningScheduler;
 import mekanism.common.content.matrix.MatrixMultiblockData;
 import mekanism.common.content.matrix.MatrixValidator;
+import mekanism.common.content.miner.MinerChangeTracker;
+import mekanism.common.content.miner.MinerFilterMatchTable;
 import mekanism.common.content.network.BoxedChemicalNetwork.ChemicalTransferEvent;
 import mekanism.common.content.network.EnergyNetwork.EnergyTransferEvent;
 import mekanism.common.content.network.FluidNetwork.FluidTransferEvent;
@@ -102,6 +105,7 @@ import mekanism.common.registries.MekanismSlurries;
 import mekanism.common.registries.MekanismSlurryIngredientTypes;
 import mekanism.common.registries.MekanismSounds;
 import mekanism.common.registries.MekanismTileEntityTypes;
+import mekanism.common.tile.base.TileEntityMekanism;
 import mekanism.common.tile.component.TileComponentChunkLoader;
 import mekanism.common.tile.machine.TileEntityOredictionificator.ODConfigValueInvalidationListener;
 import mekanism.common.util.RegistryUtils;
@@ -300,10 +304,15 @@ public class Mekanism {
 
     private void onTagsReload(TagsUpdatedEvent event) {
         TagCache.resetTagCaches();
+        MinerFilterMatchTable.invalidateAll();
+        if (event.getUpdateCause() == TagsUpdatedEvent.UpdateCause.SERVER_DATA_LOAD) {
+            getRecipeCacheManager().onServerTagsUpdated(event.getRegistryAccess());
+        }
     }
 
     private void addReloadListenersLowest(AddReloadListenerEvent event) {
         //Note: We register reload listeners here which we want to make sure run after CraftTweaker or any other mods that may modify recipes or loot tables
+        getRecipeCacheManager().setRecipeManager(event.getServerResources().getRecipeManager());
         event.addListener(getRecipeCacheManager());
     }
 
@@ -334,6 +343,9 @@ public class Mekanism {
         TransmitterNetworkRegistry.reset();
         GenHandler.reset();
         PersonalStorageManager.reset();
+        MinerChangeTracker.reset();
+        VeinMiningScheduler.reset();
+        TileEntityMekanism.resetDormantTiles();
     }
 
     private void imcQueue(InterModEnqueueEvent event) {
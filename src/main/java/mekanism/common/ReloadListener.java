@@ -1,15 +1,42 @@
 package mekanism.common;
 
 import mekanism.common.recipe.MekanismRecipeType;
+import net.minecraft.core.HolderLookup;
 import net.minecraft.server.packs.resources.ResourceManager;
 import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
+import net.minecraft.world.item.crafting.RecipeManager;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class ReloadListener implements ResourceManagerReloadListener {
 
+    @Nullable
+    private volatile RecipeManager pendingRecipeManager;
+
+    /**
+     * Sets the recipe manager of the server resources that are being reloaded, so that once they finish reloading we can build the recipe caches for them.
+     */
+    public void setRecipeManager(RecipeManager recipeManager) {
+        this.pendingRecipeManager = recipeManager;
+    }
+
     @Override
     public void onResourceManagerReload(@NotNull ResourceManager resourceManager) {
         CommonWorldTickHandler.flushTagAndRecipeCaches = true;
         MekanismRecipeType.clearCache();
     }
-}
\ No newline at end of file
+
+    /**
+     * Called when the server's tags have been updated, which happens after the rest of the server resources have finished reloading.
+     *
+     * @implNote We wait until the tags are updated to build the recipe caches rather than building them when we get reloaded, as until then any tag based ingredients
+     * would still resolve using the previous tags.
+     */
+    public void onServerTagsUpdated(HolderLookup.Provider registries) {
+        RecipeManager recipeManager = pendingRecipeManager;
+        if (recipeManager != null) {
+            pendingRecipeManager = null;
+            MekanismRecipeType.buildCaches(recipeManager, registries);
+        }
+    }
+}
@@ -14,6 +14,7 @@ import mekanism.api.text.EnumColor;
 import mekanism.common.MekanismLang;
 import mekanism.common.base.MekanismPermissions;
 import mekanism.common.command.builders.BuildCommand;
+import mekanism.common.tile.base.TileEntityMekanism;
 import mekanism.common.util.text.BooleanStateDisplay.OnOff;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
@@ -55,7 +56,12 @@ public class CommandMek {
                       MekanismAPI.debug = !MekanismAPI.debug;
                       ctx.getSource().sendSuccess(() -> MekanismLang.COMMAND_DEBUG.translateColored(EnumColor.GRAY, OnOff.of(MekanismAPI.debug, true)), true);
                       return 0;
-                  });
+                  }).then(Commands.literal("dormant")
+                        .executes(ctx -> {
+                            int dormant = TileEntityMekanism.getDormantTiles();
+                            ctx.getSource().sendSuccess(() -> MekanismLang.COMMAND_DEBUG_DORMANT.translateColored(EnumColor.GRAY, EnumColor.INDIGO, dormant), false);
+                            return dormant;
+                        }));
         }
     }
 
@@ -103,6 +103,7 @@ public class GearConfig extends BaseMekanismConfig {
     public final CachedFloatingLongValue mekaToolEnergyUsageAxe;
     public final CachedFloatingLongValue mekaToolEnergyUsageShearEntity;
     public final CachedBooleanValue mekaToolExtendedMining;
+    public final CachedIntValue mekaToolVeinMiningTickBudget;
     //MekaSuit
     public final CachedFloatingLongValue mekaSuitBaseEnergyCapacity;
     public final CachedFloatingLongValue mekaSuitBaseChargeRate;
@@ -283,6 +284,8 @@ public class GearConfig extends BaseMekanismConfig {
               "energyUsageShearEntity", FloatingLong.createConst(10));
         mekaToolExtendedMining = CachedBooleanValue.wrap(this, builder.comment("Enable the 'Extended Vein Mining' mode for the Meka-Tool. (Allows vein mining everything not just ores/logs)")
               .define("extendedMining", true));
+        mekaToolVeinMiningTickBudget = CachedIntValue.wrap(this, builder.comment("The max number of blocks vein mining will search and break per tick, larger veins get spread across multiple ticks. Also applies to the Atomic Disassembler.")
+              .defineInRange("veinMiningTickBudget", 64, 1, 1_000_000));
         builder.pop();
 
         builder.comment("MekaSuit Settings").push(MEKASUIT_CATEGORY);
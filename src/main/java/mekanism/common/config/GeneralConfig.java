@@ -47,6 +47,7 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedBooleanValue allowChunkloading;
     public final CachedBooleanValue easyMinerFilters;
     public final CachedIntValue blockDeactivationDelay;
+    public final CachedIntValue machineBatchTicks;
     public final CachedBooleanValue strictUnboxing;
     public final CachedConfigValue<List<? extends String>> cardboardModBlacklist;
     public final CachedBooleanValue transmitterAlloyUpgrade;
@@ -142,6 +143,8 @@ public class GeneralConfig extends BaseMekanismConfig {
               .define("easyMinerFilters", false));
         blockDeactivationDelay = CachedIntValue.wrap(this, builder.comment("How many ticks must pass until a block's active state is synced with the client, if it has been rapidly changing.")
               .defineInRange("blockDeactivationDelay", 3 * SharedConstants.TICKS_PER_SECOND, 0, SharedConstants.TICKS_PER_MINUTE));
+        machineBatchTicks = CachedIntValue.wrap(this, builder.comment("Number of ticks worth of processing that progress based machines will perform at once after they have been running at their max rate for that many ticks. This reduces how much work the machines do each tick, but makes them produce their outputs in bursts. Energy usage and outputs are unaffected. Set to 1 to disable batching.")
+              .defineInRange("machineBatchTicks", 1, 1, 5 * SharedConstants.TICKS_PER_SECOND));
         strictUnboxing = CachedBooleanValue.wrap(this, builder.comment("Enable this to disable unboxing any block that has a fluid that would be vaporized on placement, instead of trying to vaporize it and leave the remainder of the block.")
               .define("strictUnboxing", false));
         cardboardModBlacklist = CachedConfigValue.wrap(this, builder.comment("Any mod ids added to this list will not be able to have any of their blocks, picked up by the cardboard box. For example: [\"mekanism\"]")
@@ -0,0 +1,85 @@
+package mekanism.common.content.assemblicator;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.function.BooleanSupplier;
+import mekanism.common.lib.inventory.HashedItem;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Remembers which items are ingredients of a {@link RecipeFormula}, and which positions of the crafting grid they are valid in, so that filling the grid and validating
+ * insertions into the input slots don't have to run the recipe's matching logic again for items that have already been checked.
+ *
+ * @implNote The cached results are only kept for a single formula, and are cleared whenever a different formula is checked against or when
+ * {@link #invalidate()} is called due to tags and recipes being reloaded.
+ */
+public class FormulaIngredientCache {
+
+    //Limit how many different items we remember so that things repeatedly trying to insert unique items can't grow the cache forever
+    private static final int MAX_ENTRIES = 256;
+    private static final int GRID_SIZE = 9;
+    //Bits 0-8 store which positions have been checked, and bit 9 stores whether the item has been checked for being an ingredient at all
+    private static final int CHECKED_ANY = 1 << GRID_SIZE;
+    //The bits above this store the results of the corresponding checks
+    private static final int VALID_SHIFT = 16;
+
+    private final Object2IntMap<HashedItem> knownIngredients = new Object2IntOpenHashMap<>();
+    @Nullable
+    private RecipeFormula formula;
+
+    /**
+     * Clears all cached results, called when tags and recipes get reloaded as they may change what items match the recipe.
+     */
+    public void invalidate() {
+        knownIngredients.clear();
+        formula = null;
+    }
+
+    /**
+     * Cached version of {@link RecipeFormula#isIngredientInPos(Level, ItemStack, int)}.
+     */
+    public boolean isIngredientInPos(Level world, RecipeFormula formula, ItemStack stack, int index) {
+        if (stack.isEmpty() || !formula.valid()) {
+            //Checking empty stacks, or formulas without a recipe doesn't require checking the recipe, so we don't bother caching them
+            return formula.isIngredientInPos(world, stack, index);
+        }
+        return check(formula, stack, 1 << index, () -> formula.isIngredientInPos(world, stack, index));
+    }
+
+    /**
+     * Cached version of {@link RecipeFormula#isValidIngredient(Level, ItemStack)}.
+     */
+    public boolean isValidIngredient(Level world, RecipeFormula formula, ItemStack stack) {
+        if (!formula.valid()) {
+            return false;
+        }
+        return check(formula, stack, CHECKED_ANY, () -> formula.isValidIngredient(world, stack));
+    }
+
+    private boolean check(RecipeFormula formula, ItemStack stack, int checkBit, BooleanSupplier check) {
+        if (this.formula != formula) {
+            //Note: We compare by reference as a new formula instance is created whenever the formula changes
+            knownIngredients.clear();
+            this.formula = formula;
+        }
+        HashedItem type = HashedItem.raw(stack);
+        int known = knownIngredients.getInt(type);
+        if ((known & checkBit) != 0) {
+            return (known & (checkBit << VALID_SHIFT)) != 0;
+        }
+        boolean valid = check.getAsBoolean();
+        if (known == 0 && knownIngredients.size() >= MAX_ENTRIES) {
+            //Note: Only clear if we are about to add a new entry, not when updating one we already have
+            knownIngredients.clear();
+        }
+        known |= checkBit;
+        if (valid) {
+            known |= checkBit << VALID_SHIFT;
+        }
+        //Copy the stack when storing it so that changes to the stack we were passed don't affect the key
+        knownIngredients.put(HashedItem.create(stack), known);
+        return valid;
+    }
+}
@@ -74,11 +74,27 @@ public record RecipeFormula(CraftingInput.Positioned craftingInput, @Nullable Re
     public boolean matches(Level world, List<IInventorySlot> craftingGridSlots) {
         if (recipe == null) {
             return false;
+        } else if (containsFormulaItems(craftingGridSlots)) {
+            //The recipe already matched the items we were encoded with, so we don't need to check it again
+            return true;
         }
         //Should always be a 3x3 grid for the size
         return recipe.value().matches(MekanismUtils.getCraftingInputSlots(3, 3, craftingGridSlots, true).input(), world);
     }
 
+    /**
+     * @return {@code true} if every slot of the crafting grid contains the same item as this formula has in that position.
+     */
+    public boolean containsFormulaItems(List<IInventorySlot> craftingGridSlots) {
+        for (int i = 0, slots = craftingGridSlots.size(); i < slots; i++) {
+            //Note: Empty stacks are treated as being the same as each other
+            if (!ItemStack.isSameItemSameComponents(craftingGridSlots.get(i).getStack(), getInputStack(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public boolean isIngredientInPos(Level world, ItemStack stack, int i) {
         if (recipe == null) {
             return false;
@@ -230,6 +230,11 @@ public class InventoryFrequency extends Frequency implements IMekanismInventory,
     @Override
     public void onContentsChanged() {
         dirty = true;
+        //Our contents are proxied by all the entangloporters on this frequency, and they don't get notified when they change,
+        // so let them know that they may have something new to eject
+        for (TileEntityQuantumEntangloporter qe : activeQEs.values()) {
+            qe.getEjector().queueEject();
+        }
     }
 
     @Override
@@ -0,0 +1,235 @@
+package mekanism.common.content.gear;
+
+import it.unimi.dsi.fastutil.ints.IntArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.ObjectArrayFIFOQueue;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Optional;
+import mekanism.api.Action;
+import mekanism.api.AutomationType;
+import mekanism.api.energy.IEnergyContainer;
+import mekanism.api.math.FloatingLong;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.network.PacketUtils;
+import mekanism.common.network.to_client.PacketLightningRender;
+import mekanism.common.network.to_client.PacketLightningRender.LightningPreset;
+import mekanism.common.util.StorageUtils;
+import mekanism.common.util.WorldUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.stats.Stat;
+import net.minecraft.stats.Stats;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.FluidState;
+import net.neoforged.neoforge.common.CommonHooks;
+import net.neoforged.neoforge.event.level.BlockEvent;
+
+/**
+ * A vein mining operation that is spread across multiple ticks. The vein is found using a breadth first search, and the found blocks are broken in the order they were
+ * found, with both steps being limited to {@link mekanism.common.config.GearConfig#mekaToolVeinMiningTickBudget} positions per tick.
+ *
+ * @implNote Blocks only get broken after their neighbors have been searched, so breaking blocks while the search is still running finds the same vein as searching it all
+ * at once would.
+ */
+public class VeinMiningJob {
+
+    private final ServerPlayer player;
+    private final Level level;
+    private final ItemStack stack;
+    private final Item usedTool;
+    private final long origin;
+    private final int extendedRange;
+    private final Reference2BooleanMap<Block> oreTracker;
+    private final int maxCount;
+    private final FloatingLong energyRequired;
+    private final FloatingLong baseBlastEnergy;
+    private final FloatingLong baseVeinEnergy;
+    private final BlastEnergyFunction blastEnergy;
+    private final VeinEnergyFunction veinEnergy;
+
+    //Positions that have been found but not searched yet, and the distance and block they were found with
+    private final LongArrayFIFOQueue frontier = new LongArrayFIFOQueue();
+    private final IntArrayFIFOQueue frontierDistances = new IntArrayFIFOQueue();
+    private final ObjectArrayFIFOQueue<Block> frontierBlocks = new ObjectArrayFIFOQueue<>();
+    private final LongSet visited = new LongOpenHashSet();
+    //Positions that have been searched and are waiting to be broken
+    private final LongArrayFIFOQueue toBreak = new LongArrayFIFOQueue();
+    private final IntArrayFIFOQueue toBreakDistances = new IntArrayFIFOQueue();
+    private int found;
+    private boolean reserveEnergy = true;
+
+    /**
+     * @param origin         The block the player broke to start vein mining, this block will not be broken again.
+     * @param initial        The blocks to start searching from, all of which will be broken.
+     * @param extendedRange  The distance from the initial blocks that blocks that aren't ores should still be searched.
+     * @param oreTracker     Whether each block should be treated as an ore and searched regardless of the extended range.
+     * @param energyRequired Energy to leave in the tool during the first tick, as it is in the same tick as the origin block being broken.
+     */
+    public VeinMiningJob(ServerPlayer player, Level level, ItemStack stack, Item usedTool, BlockPos origin, Map<BlockPos, BlockState> initial, int extendedRange,
+          Reference2BooleanMap<Block> oreTracker, FloatingLong energyRequired, FloatingLong baseBlastEnergy, FloatingLong baseVeinEnergy, BlastEnergyFunction blastEnergy,
+          VeinEnergyFunction veinEnergy) {
+        this.player = player;
+        this.level = level;
+        this.stack = stack;
+        this.usedTool = usedTool;
+        this.origin = origin.asLong();
+        this.extendedRange = extendedRange;
+        this.oreTracker = oreTracker;
+        this.maxCount = initial.size() + MekanismConfig.gear.disassemblerMiningCount.get() * oreTracker.size();
+        this.energyRequired = energyRequired;
+        this.baseBlastEnergy = baseBlastEnergy;
+        this.baseVeinEnergy = baseVeinEnergy;
+        this.blastEnergy = blastEnergy;
+        this.veinEnergy = veinEnergy;
+        for (Entry<BlockPos, BlockState> entry : initial.entrySet()) {
+            long pos = entry.getKey().asLong();
+            if (visited.add(pos)) {
+                frontier.enqueue(pos);
+                frontierDistances.enqueue(0);
+                frontierBlocks.enqueue(entry.getValue().getBlock());
+            }
+        }
+    }
+
+    /**
+     * Searches and breaks up to the given number of positions.
+     *
+     * @return {@code true} if the job is finished or can no longer continue.
+     */
+    public boolean tick(int budget) {
+        //Stop if the player is gone or is no longer holding the tool that started the job
+        if (player.isRemoved() || player.level() != level || player.getMainHandItem() != stack) {
+            return true;
+        }
+        IEnergyContainer energyContainer = StorageUtils.getEnergyContainer(stack, 0);
+        if (energyContainer == null) {
+            return true;
+        }
+        for (int searched = 0; searched < budget && !frontier.isEmpty(); searched++) {
+            searchNext();
+        }
+        FloatingLong energyUsed = FloatingLong.ZERO;
+        FloatingLong energyAvailable = energyContainer.getEnergy();
+        if (reserveEnergy) {
+            //Subtract from our available energy the amount that we want to leave in the tool. We only do this in the first tick, as that is the one
+            // in which the origin block gets mined, and it has already been paid for by the time any later ticks run
+            energyAvailable = energyAvailable.subtract(energyRequired);
+            reserveEnergy = false;
+        }
+        Stat<Item> itemStat = Stats.ITEM_USED.get(usedTool);
+        for (int checked = 0; checked < budget && !toBreak.isEmpty(); checked++) {
+            long pos = toBreak.dequeueLong();
+            int distance = toBreakDistances.dequeueInt();
+            if (pos != origin) {
+                FloatingLong destroyEnergy = tryBreak(BlockPos.of(pos), distance, energyUsed, energyAvailable, itemStat);
+                if (destroyEnergy != null) {
+                    energyUsed = energyUsed.plusEqual(destroyEnergy);
+                }
+            }
+        }
+        energyContainer.extract(energyUsed, Action.EXECUTE, AutomationType.MANUAL);
+        return frontier.isEmpty() && toBreak.isEmpty();
+    }
+
+    private void searchNext() {
+        long pos = frontier.dequeueLong();
+        int distance = frontierDistances.dequeueInt();
+        Block block = frontierBlocks.dequeue();
+        toBreak.enqueue(pos);
+        toBreakDistances.enqueue(distance);
+        if (++found >= maxCount) {
+            //Found as many blocks as we are allowed to, so there is no point in searching any further
+            frontier.clear();
+            frontierDistances.clear();
+            frontierBlocks.clear();
+            return;
+        }
+        //If it is extended or should be treated as an ore
+        if (oreTracker.getBoolean(block) || extendedRange > distance) {
+            BlockPos blockPos = BlockPos.of(pos);
+            for (BlockPos nextPos : BlockPos.betweenClosed(blockPos.offset(-1, -1, -1), blockPos.offset(1, 1, 1))) {
+                long next = nextPos.asLong();
+                if (!visited.contains(next)) {
+                    Optional<BlockState> nextState = WorldUtils.getBlockState(level, nextPos);
+                    if (nextState.isPresent() && nextState.get().is(block)) {
+                        visited.add(next);
+                        frontier.enqueue(next);
+                        frontierDistances.enqueue(distance + 1);
+                        frontierBlocks.enqueue(block);
+                        //Note: We do this for all blocks we find/attempt to mine, not just ones we do mine, as it is a bit simpler
+                        // and also represents those blocks getting checked by the vein mining for potentially being able to be mined
+                        PacketUtils.sendToAllTracking(new PacketLightningRender(LightningPreset.TOOL_AOE, Objects.hash(blockPos, nextPos),
+                              blockPos.getCenter(), nextPos.getCenter(), 10), level, blockPos);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return The energy used to break the block, or {@code null} if it wasn't broken.
+     */
+    private FloatingLong tryBreak(BlockPos foundPos, int distance, FloatingLong energyUsed, FloatingLong energyAvailable, Stat<Item> itemStat) {
+        BlockState targetState = level.getBlockState(foundPos);
+        if (targetState.isAir()) {
+            return null;
+        }
+        float hardness = targetState.getDestroySpeed(level, foundPos);
+        if (hardness == -1) {
+            return null;
+        }
+        FloatingLong destroyEnergy = distance == 0 ? blastEnergy.calc(baseBlastEnergy, hardness) : veinEnergy.calc(baseVeinEnergy, hardness, distance, targetState);
+        if (energyUsed.add(destroyEnergy).greaterThan(energyAvailable)) {
+            //If we don't have energy to break the block continue
+            //Note: We do not stop as given the energy scales with hardness, so it is possible we still have energy to break another block
+            // Given we validate the blocks are the same but their block states may be different thus making them have different
+            // block hardness values in a modded context
+            return null;
+        }
+        BlockEvent.BreakEvent event = CommonHooks.fireBlockBreak(level, player.gameMode.getGameModeForPlayer(), player, foundPos, targetState);
+        if (event.isCanceled()) {
+            //If we can't actually break the block continue (this allows mods to stop us from vein mining into protected land)
+            return null;
+        }
+        //Otherwise, break the block
+        FluidState fluidState = targetState.getFluidState();
+        //Get the tile now so that we have it for when we try to harvest the block
+        BlockEntity tileEntity = WorldUtils.getTileEntity(level, foundPos);
+        //Update what the state will be if the player is destroying it, so that things like angering piglins, and firing block destroy game events occur
+        // This also ensures that things like decorated pots are able to properly update to cracked and drop sherds rather than the pot block itself
+        targetState = targetState.getBlock().playerWillDestroy(level, foundPos, targetState, player);
+        Block block = targetState.getBlock();
+        //Remove the block
+        if (targetState.onDestroyedByPlayer(level, foundPos, player, true, fluidState)) {
+            block.destroy(level, foundPos, targetState);
+            //Harvest the block allowing it to handle block drops, incrementing block mined count, and adding exhaustion
+            block.playerDestroy(level, player, foundPos, targetState, tileEntity, stack);
+            player.awardStat(itemStat);
+            //Mark that we used that portion of the energy
+            return destroyEnergy;
+        }
+        return null;
+    }
+
+    @FunctionalInterface
+    public interface BlastEnergyFunction {
+
+        FloatingLong calc(FloatingLong baseBlastEnergy, float hardness);
+    }
+
+    @FunctionalInterface
+    public interface VeinEnergyFunction {
+
+        FloatingLong calc(FloatingLong baseVeinEnergy, float hardness, int distance, BlockState state);
+    }
+}
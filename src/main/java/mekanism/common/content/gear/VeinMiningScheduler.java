@@ -0,0 +1,36 @@
+package mekanism.common.content.gear;
+
+import java.util.ArrayList;
+import java.util.List;
+import mekanism.common.config.MekanismConfig;
+
+/**
+ * Runs {@link VeinMiningJob}s across multiple ticks so that mining large veins doesn't cause the server to lag.
+ *
+ * @apiNote Only accessed from the server thread.
+ */
+public final class VeinMiningScheduler {
+
+    private VeinMiningScheduler() {
+    }
+
+    private static final List<VeinMiningJob> jobs = new ArrayList<>();
+
+    public static void start(VeinMiningJob job) {
+        //Run the first step immediately so that veins that fit in the budget are still mined in the same tick as the block that started them
+        if (!job.tick(MekanismConfig.gear.mekaToolVeinMiningTickBudget.get())) {
+            jobs.add(job);
+        }
+    }
+
+    public static void tick() {
+        if (!jobs.isEmpty()) {
+            int budget = MekanismConfig.gear.mekaToolVeinMiningTickBudget.get();
+            jobs.removeIf(job -> job.tick(budget));
+        }
+    }
+
+    public static void reset() {
+        jobs.clear();
+    }
+}
@@ -0,0 +1,124 @@
+package mekanism.common.content.miner;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import mekanism.common.tile.machine.TileEntityDigitalMiner;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+
+/**
+ * Keeps track of which Digital Miners have searched which chunks, so that when a block in a miner's range changes the miner can re-evaluate just that position instead
+ * of having to search its entire range again.
+ *
+ * @apiNote Only accessed from the server thread.
+ */
+public final class MinerChangeTracker {
+
+    private MinerChangeTracker() {
+    }
+
+    private static final Map<ResourceKey<Level>, Long2ObjectMap<List<TileEntityDigitalMiner>>> minersByChunk = new Object2ObjectOpenHashMap<>();
+    private static final Map<TileEntityDigitalMiner, TrackedRegion> trackedRegions = new Reference2ObjectOpenHashMap<>();
+
+    /**
+     * Starts tracking changes in the range of the given miner, replacing any range that was previously being tracked for it.
+     */
+    public static void track(TileEntityDigitalMiner miner, ResourceKey<Level> dimension, BlockPos min, BlockPos max) {
+        untrack(miner);
+        TrackedRegion region = new TrackedRegion(dimension, min, max);
+        trackedRegions.put(miner, region);
+        Long2ObjectMap<List<TileEntityDigitalMiner>> chunks = minersByChunk.computeIfAbsent(dimension, dim -> new Long2ObjectOpenHashMap<>());
+        for (int chunkX = region.minChunkX(); chunkX <= region.maxChunkX(); chunkX++) {
+            for (int chunkZ = region.minChunkZ(); chunkZ <= region.maxChunkZ(); chunkZ++) {
+                long chunk = ChunkPos.asLong(chunkX, chunkZ);
+                List<TileEntityDigitalMiner> miners = chunks.get(chunk);
+                if (miners == null) {
+                    miners = new ArrayList<>(1);
+                    chunks.put(chunk, miners);
+                }
+                miners.add(miner);
+            }
+        }
+    }
+
+    public static void untrack(TileEntityDigitalMiner miner) {
+        TrackedRegion region = trackedRegions.remove(miner);
+        if (region != null) {
+            Long2ObjectMap<List<TileEntityDigitalMiner>> chunks = minersByChunk.get(region.dimension());
+            if (chunks != null) {
+                for (int chunkX = region.minChunkX(); chunkX <= region.maxChunkX(); chunkX++) {
+                    for (int chunkZ = region.minChunkZ(); chunkZ <= region.maxChunkZ(); chunkZ++) {
+                        long chunk = ChunkPos.asLong(chunkX, chunkZ);
+                        List<TileEntityDigitalMiner> miners = chunks.get(chunk);
+                        if (miners != null) {
+                            miners.remove(miner);
+                            if (miners.isEmpty()) {
+                                chunks.remove(chunk);
+                            }
+                        }
+                    }
+                }
+                if (chunks.isEmpty()) {
+                    minersByChunk.remove(region.dimension());
+                }
+            }
+        }
+    }
+
+    /**
+     * Notifies any miners that have the given position in range that the block at it changed.
+     */
+    public static void onBlockChanged(Level level, BlockPos pos) {
+        if (minersByChunk.isEmpty()) {
+            return;
+        }
+        Long2ObjectMap<List<TileEntityDigitalMiner>> chunks = minersByChunk.get(level.dimension());
+        if (chunks != null) {
+            List<TileEntityDigitalMiner> miners = chunks.get(ChunkPos.asLong(pos));
+            if (miners != null) {
+                for (TileEntityDigitalMiner miner : miners) {
+                    if (trackedRegions.get(miner).contains(pos)) {
+                        miner.onBlockChanged(pos);
+                    }
+                }
+            }
+        }
+    }
+
+    public static void reset() {
+        minersByChunk.clear();
+        trackedRegions.clear();
+    }
+
+    private record TrackedRegion(ResourceKey<Level> dimension, BlockPos min, BlockPos max) {
+
+        private int minChunkX() {
+            return SectionPos.blockToSectionCoord(min.getX());
+        }
+
+        private int maxChunkX() {
+            return SectionPos.blockToSectionCoord(max.getX());
+        }
+
+        private int minChunkZ() {
+            return SectionPos.blockToSectionCoord(min.getZ());
+        }
+
+        private int maxChunkZ() {
+            return SectionPos.blockToSectionCoord(max.getZ());
+        }
+
+        private boolean contains(BlockPos pos) {
+            return pos.getX() >= min.getX() && pos.getX() <= max.getX() && pos.getY() >= min.getY() && pos.getY() <= max.getY() &&
+                   pos.getZ() >= min.getZ() && pos.getZ() <= max.getZ();
+        }
+    }
+}
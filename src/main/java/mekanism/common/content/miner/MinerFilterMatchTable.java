@@ -0,0 +1,106 @@
+package mekanism.common.content.miner;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import mekanism.common.content.filter.FilterManager;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Table of which of a miner's enabled filters is the first one to match each block state. Entries are filled in the first time a state is looked up, so that after that
+ * checking a state against the filters is a single map lookup instead of running the tag and mod id checks again.
+ *
+ * @implNote Entries are only stored for states that have actually been looked up, as a miner only ever encounters a small fraction of all the registered states, and a
+ * dense table of every state would take up a lot of memory per miner in large packs. Lookups may happen from the miner's search threads, so the table is backed by a
+ * concurrent map.
+ */
+public class MinerFilterMatchTable {
+
+    private static final int NO_MATCH = -1;
+    //Incremented whenever tags are reloaded, as that may change which states a filter matches
+    private static volatile int tagGeneration;
+
+    /**
+     * Invalidates all tables, called when tags are reloaded.
+     */
+    public static void invalidateAll() {
+        tagGeneration++;
+    }
+
+    private final FilterManager<MinerFilter<?>> filterManager;
+    @Nullable
+    private volatile CompiledFilters compiled;
+
+    public MinerFilterMatchTable(FilterManager<MinerFilter<?>> filterManager) {
+        this.filterManager = filterManager;
+    }
+
+    /**
+     * Invalidates this table, called when the miner's filters change.
+     */
+    public void invalidate() {
+        compiled = null;
+    }
+
+    /**
+     * @return {@code true} if any of the enabled filters match the given state.
+     */
+    public boolean matches(BlockState state) {
+        return getCompiled().getFirstMatch(state) != NO_MATCH;
+    }
+
+    /**
+     * @return The first enabled filter that matches the given state, or {@code null} if none match.
+     */
+    @Nullable
+    public MinerFilter<?> getMatchingFilter(BlockState state) {
+        CompiledFilters compiled = getCompiled();
+        int match = compiled.getFirstMatch(state);
+        return match == NO_MATCH ? null : compiled.filters.get(match);
+    }
+
+    private CompiledFilters getCompiled() {
+        CompiledFilters compiled = this.compiled;
+        int generation = tagGeneration;
+        if (compiled == null || compiled.generation != generation) {
+            compiled = new CompiledFilters(List.copyOf(filterManager.getEnabledFilters()), generation);
+            this.compiled = compiled;
+        }
+        return compiled;
+    }
+
+    private static class CompiledFilters {
+
+        private final List<MinerFilter<?>> filters;
+        private final Map<BlockState, Integer> firstMatch = new ConcurrentHashMap<>();
+        private final int generation;
+
+        private CompiledFilters(List<MinerFilter<?>> filters, int generation) {
+            this.filters = filters;
+            this.generation = generation;
+        }
+
+        private int getFirstMatch(BlockState state) {
+            if (filters.isEmpty()) {
+                return NO_MATCH;
+            }
+            //Note: The values are filter indices, which are small enough that boxing them almost always uses the cached Integer instances
+            Integer match = firstMatch.get(state);
+            if (match == null) {
+                match = findFirstMatch(state);
+                firstMatch.put(state, match);
+            }
+            return match;
+        }
+
+        private int findFirstMatch(BlockState state) {
+            for (int i = 0, size = filters.size(); i < size; i++) {
+                if (filters.get(i).canFilter(state)) {
+                    return i;
+                }
+            }
+            return NO_MATCH;
+        }
+    }
+}
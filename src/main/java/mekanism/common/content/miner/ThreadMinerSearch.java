@@ -5,12 +5,23 @@ import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Reference2BooleanMap;
 import it.unimi.dsi.fastutil.objects.Reference2BooleanOpenHashMap;
+import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.IntFunction;
 import mekanism.api.annotations.NothingNullByDefault;
 import mekanism.api.math.MathUtils;
 import mekanism.api.text.IHasTextComponent;
 import mekanism.api.text.ILangEntry;
+import mekanism.common.Mekanism;
 import mekanism.common.MekanismLang;
 import mekanism.common.content.gear.mekatool.ModuleExcavationEscalationUnit.ExcavationMode;
 import mekanism.common.tags.MekanismTags;
@@ -19,10 +30,13 @@ import mekanism.common.tile.machine.TileEntityDigitalMiner;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.util.ByIdMap;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.PathNavigationRegion;
 import net.minecraft.world.level.block.BedBlock;
@@ -33,83 +47,253 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.properties.BedPart;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
 import net.minecraft.world.level.block.state.properties.DoubleBlockHalf;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import org.jetbrains.annotations.Nullable;
 
-public class ThreadMinerSearch extends Thread {
+/**
+ * Search for the blocks a Digital Miner should mine. Searches from all miners are run on one shared bounded fork join pool, with each search being split into a subtask
+ * per chunk column so that idle workers can steal chunks from larger searches.
+ */
+public class ThreadMinerSearch {
+
+    private static final ForkJoinPool SEARCH_POOL = new ForkJoinPool(Mth.clamp(Runtime.getRuntime().availableProcessors() / 2, 1, 4), pool -> {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("Digital Miner Search Worker-" + thread.getPoolIndex());
+        thread.setDaemon(true);
+        thread.setContextClassLoader(ThreadMinerSearch.class.getClassLoader());
+        return thread;
+    }, (thread, throwable) -> Mekanism.logger.error("Uncaught exception in {}", thread.getName(), throwable), false);
+    //Number of searches that have been submitted but haven't started running yet
+    private static final AtomicInteger QUEUED_SEARCHES = new AtomicInteger();
+
+    /**
+     * @return The number of miner searches waiting for a worker to become available.
+     */
+    public static int getQueuedSearches() {
+        return QUEUED_SEARCHES.get();
+    }
 
     private final TileEntityDigitalMiner tile;
-    private final Long2ObjectMap<BitSet> oresToMine = new Long2ObjectOpenHashMap<>();
+    private final AtomicInteger found = new AtomicInteger();
+    @Nullable
     private PathNavigationRegion chunkCache;
-    public State state = State.IDLE;
-    public int found = 0;
+    @Nullable
+    private Future<?> task;
+    private final AtomicBoolean dequeued = new AtomicBoolean();
+    private volatile boolean cancelled;
+    private long submitTime;
+    public volatile State state = State.IDLE;
 
     public ThreadMinerSearch(TileEntityDigitalMiner tile) {
-        super("Digital Miner Search thread " + tile.getBlockPos());
         this.tile = tile;
-        setDaemon(true);
     }
 
     public void setChunkCache(PathNavigationRegion cache) {
         this.chunkCache = cache;
     }
 
-    @Override
-    public void run() {
-        state = State.SEARCHING;
+    public int getFound() {
+        return found.get();
+    }
+
+    /**
+     * Queues this search to be run on the shared search pool. Does nothing if this search has already been started.
+     */
+    public void start() {
+        if (task == null && !cancelled) {
+            state = State.SEARCHING;
+            submitTime = System.nanoTime();
+            QUEUED_SEARCHES.incrementAndGet();
+            task = SEARCH_POOL.submit(this::run);
+        }
+    }
+
+    /**
+     * Cancels this search, if it is queued it won't be run, and if it is running it will stop at the next layer of blocks it checks.
+     */
+    public void cancel() {
+        cancelled = true;
+        if (task != null) {
+            task.cancel(false);
+            //A cancelled task may never get run, so make sure it stops counting as queued
+            markDequeued();
+        }
+    }
+
+    private void markDequeued() {
+        if (dequeued.compareAndSet(false, true)) {
+            QUEUED_SEARCHES.decrementAndGet();
+        }
+    }
+
+    private boolean isCancelled() {
+        //Make sure the miner is still valid and something hasn't gone wrong
+        return cancelled || tile.isRemoved();
+    }
+
+    private void run() {
+        markDequeued();
+        long startTime = System.nanoTime();
+        PathNavigationRegion chunkCache = this.chunkCache;
+        this.chunkCache = null;
+        if (chunkCache == null || isCancelled()) {
+            return;
+        }
         if (!tile.getInverse() && !tile.getFilterManager().hasEnabledFilters()) {
             state = State.FINISHED;
             return;
         }
-        Reference2BooleanMap<Block> acceptedItems = new Reference2BooleanOpenHashMap<>();
-        BlockPos pos = tile.getStartingPos();
+        BlockPos startingPos = tile.getStartingPos();
         int diameter = tile.getDiameter();
-        int size = tile.getTotalSize();
-        Block info;
-        BlockPos minerPos = tile.getBlockPos();
-        for (int i = 0; i < size; i++) {
-            if (tile.isRemoved()) {
-                //Make sure the miner is still valid and something hasn't gone wrong
-                return;
+        int height = tile.getMaxY() - tile.getMinY() + 1;
+        int minChunkX = SectionPos.blockToSectionCoord(startingPos.getX());
+        int maxChunkX = SectionPos.blockToSectionCoord(startingPos.getX() + diameter - 1);
+        int minChunkZ = SectionPos.blockToSectionCoord(startingPos.getZ());
+        int maxChunkZ = SectionPos.blockToSectionCoord(startingPos.getZ() + diameter - 1);
+        List<ChunkSearch> chunkSearches = new ArrayList<>((maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1));
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                chunkSearches.add(new ChunkSearch(chunkCache, startingPos, diameter, height, chunkX, chunkZ));
             }
-            BlockPos testPos = TileEntityDigitalMiner.getOffsetForIndex(pos, diameter, i);
-            if (minerPos.equals(testPos) || WorldUtils.getTileEntity(TileEntityBoundingBlock.class, chunkCache, testPos) != null) {
-                //Skip the miner itself, and also skip any bounding blocks
-                continue;
-            }
-            BlockState state = chunkCache.getBlockState(testPos);
-            if (state.isAir() || state.is(MekanismTags.Blocks.MINER_BLACKLIST) || shouldSkipState(state) || state.getDestroySpeed(chunkCache, testPos) < 0) {
-                //Skip air, blacklisted blocks, special cased block states, and unbreakable blocks
-                continue;
+        }
+        ForkJoinTask.invokeAll(chunkSearches);
+        if (isCancelled()) {
+            return;
+        }
+        Long2ObjectMap<BitSet> oresToMine = new Long2ObjectOpenHashMap<>();
+        for (ChunkSearch chunkSearch : chunkSearches) {
+            BitSet inChunk = chunkSearch.join();
+            if (!inChunk.isEmpty()) {
+                oresToMine.put(ChunkPos.asLong(chunkSearch.chunkX, chunkSearch.chunkZ), inChunk);
             }
-            info = state.getBlock();
-            if (MekanismUtils.isLiquidBlock(info)) {//Skip liquids
-                continue;
+        }
+
+        if (tile.searcher == this) {
+            //Only update search if we are still valid and didn't get replaced due to a reset call
+            tile.updateFromSearch(oresToMine, found.get());
+        }
+        //Note: We only mark it as finished after updating the miner, so that the miner doesn't try to apply any block changes
+        // to its old results
+        state = State.FINISHED;
+        long endTime = System.nanoTime();
+        Mekanism.logger.debug("Digital Miner at {} found {} blocks in {} ms after waiting {} ms to start. {} searches are still queued.", tile.getBlockPos(),
+              found.get(), TimeUnit.NANOSECONDS.toMillis(endTime - startTime), TimeUnit.NANOSECONDS.toMillis(startTime - submitTime), QUEUED_SEARCHES.get());
+    }
+
+    /**
+     * Searches the part of a single chunk column that is in range of the miner.
+     */
+    private class ChunkSearch extends RecursiveTask<BitSet> {
+
+        private final PathNavigationRegion chunkCache;
+        private final BlockPos startingPos;
+        private final int diameter;
+        private final int height;
+        private final int chunkX;
+        private final int chunkZ;
+
+        private ChunkSearch(PathNavigationRegion chunkCache, BlockPos startingPos, int diameter, int height, int chunkX, int chunkZ) {
+            this.chunkCache = chunkCache;
+            this.startingPos = startingPos;
+            this.diameter = diameter;
+            this.height = height;
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+        }
+
+        @Override
+        protected BitSet compute() {
+            BitSet oresToMine = new BitSet();
+            if (!(chunkCache.getChunkForCollisions(chunkX, chunkZ) instanceof ChunkAccess chunk)) {
+                //Chunk isn't loaded
+                return oresToMine;
             }
-            boolean accepted;
-            if (acceptedItems.containsKey(info)) {
-                accepted = acceptedItems.getBoolean(info);
-            } else {
-                if (tile.isReplaceTarget(info.asItem())) {
-                    //If it is a replace target just mark it as never being accepted
-                    accepted = false;
-                } else {
-                    //Ensure that the inverse mode is the opposite of the filter match
-                    accepted = tile.getInverse() != tile.getFilterManager().anyEnabledMatch(state, MinerFilter::canFilter);
+            //Note: Each chunk keeps track of its own replace targets as the map isn't thread safe
+            Reference2BooleanMap<Block> replaceTargets = new Reference2BooleanOpenHashMap<>();
+            MinerFilterMatchTable matchTable = tile.getFilterMatchTable();
+            boolean inverse = tile.getInverse();
+            int startX = startingPos.getX();
+            int startY = startingPos.getY();
+            int startZ = startingPos.getZ();
+            int minX = Math.max(startX, SectionPos.sectionToBlockCoord(chunkX));
+            int maxX = Math.min(startX + diameter - 1, SectionPos.sectionToBlockCoord(chunkX, 15));
+            int minZ = Math.max(startZ, SectionPos.sectionToBlockCoord(chunkZ));
+            int maxZ = Math.min(startZ + diameter - 1, SectionPos.sectionToBlockCoord(chunkZ, 15));
+            int endY = startY + height - 1;
+            BlockPos.MutableBlockPos testPos = new BlockPos.MutableBlockPos();
+            for (int sectionY = SectionPos.blockToSectionCoord(startY), maxSectionY = SectionPos.blockToSectionCoord(endY); sectionY <= maxSectionY; sectionY++) {
+                if (isCancelled()) {
+                    return oresToMine;
+                }
+                int sectionIndex = chunk.getSectionIndexFromSectionY(sectionY);
+                if (sectionIndex < 0 || sectionIndex >= chunk.getSectionsCount()) {
+                    continue;
+                }
+                LevelChunkSection section = chunk.getSection(sectionIndex);
+                //Skip any sections that are empty, or where the palette doesn't contain any states our filters could accept
+                if (section.hasOnlyAir() || !section.maybeHas(state -> mayAccept(matchTable, inverse, state))) {
+                    continue;
+                }
+                int minY = Math.max(startY, SectionPos.sectionToBlockCoord(sectionY));
+                int maxY = Math.min(endY, SectionPos.sectionToBlockCoord(sectionY, 15));
+                for (int y = minY; y <= maxY; y++) {
+                    int relativeY = SectionPos.sectionRelative(y);
+                    for (int z = minZ; z <= maxZ; z++) {
+                        int relativeZ = SectionPos.sectionRelative(z);
+                        for (int x = minX; x <= maxX; x++) {
+                            BlockState state = section.getBlockState(SectionPos.sectionRelative(x), relativeY, relativeZ);
+                            if (mayAccept(matchTable, inverse, state) && isAccepted(tile, chunkCache, replaceTargets, state, testPos.set(x, y, z))) {
+                                //Note: Equivalent to TileEntityDigitalMiner#getIndexForOffset
+                                oresToMine.set(((y - startY) * diameter + z - startZ) * diameter + x - startX);
+                                found.incrementAndGet();
+                            }
+                        }
+                    }
                 }
-                acceptedItems.put(info, accepted);
-            }
-            if (accepted) {
-                long chunk = ChunkPos.asLong(testPos);
-                oresToMine.computeIfAbsent(chunk, k -> new BitSet()).set(i);
-                found++;
             }
+            return oresToMine;
         }
+    }
 
-        state = State.FINISHED;
-        chunkCache = null;
-        if (tile.searcher == this) {
-            //Only update search if we are still valid and didn't get replaced due to a reset call
-            tile.updateFromSearch(oresToMine, found);
+    /**
+     * Quick check of whether a state could be accepted that doesn't need to know where the state is.
+     */
+    private static boolean mayAccept(MinerFilterMatchTable matchTable, boolean inverse, BlockState state) {
+        //Ensure that the inverse mode is the opposite of the filter match
+        return !state.isAir() && inverse != matchTable.matches(state);
+    }
+
+    /**
+     * Checks if the given position is one that the miner should try to mine.
+     *
+     * @param replaceTargets Cache of whether blocks are one of the miner's replace targets, must be discarded when the miner's filters change.
+     */
+    public static boolean isAccepted(TileEntityDigitalMiner tile, BlockGetter level, Reference2BooleanMap<Block> replaceTargets, BlockPos testPos) {
+        return isAccepted(tile, level, replaceTargets, level.getBlockState(testPos), testPos);
+    }
+
+    private static boolean isAccepted(TileEntityDigitalMiner tile, BlockGetter level, Reference2BooleanMap<Block> replaceTargets, BlockState state, BlockPos testPos) {
+        if (tile.getBlockPos().equals(testPos) || (state.hasBlockEntity() && WorldUtils.getTileEntity(TileEntityBoundingBlock.class, level, testPos) != null)) {
+            //Skip the miner itself, and also skip any bounding blocks
+            return false;
+        }
+        if (state.isAir() || state.is(MekanismTags.Blocks.MINER_BLACKLIST) || shouldSkipState(state) || state.getDestroySpeed(level, testPos) < 0) {
+            //Skip air, blacklisted blocks, special cased block states, and unbreakable blocks
+            return false;
+        }
+        Block info = state.getBlock();
+        //Ensure that the inverse mode is the opposite of the filter match
+        if (MekanismUtils.isLiquidBlock(info) || tile.getInverse() == tile.getFilterMatchTable().matches(state)) {
+            //Skip liquids, and blocks we shouldn't mine based on our filters
+            return false;
+        } else if (replaceTargets.containsKey(info)) {
+            return !replaceTargets.getBoolean(info);
         }
+        //If it is a replace target just mark it as never being accepted
+        boolean replaceTarget = tile.isReplaceTarget(info.asItem());
+        replaceTargets.put(info, replaceTarget);
+        return !replaceTarget;
     }
 
     /**
@@ -117,7 +301,7 @@ public class ThreadMinerSearch extends Thread {
      * beds, and doors. If a data pack modifies the loot table so that the "secondary" block also provides drops those will then be handled by the fallback we have for
      * collecting any drops that happen from breaking the block.
      */
-    private boolean shouldSkipState(BlockState state) {
+    private static boolean shouldSkipState(BlockState state) {
         if (state.getBlock() instanceof BedBlock) {
             return state.getValue(BlockStateProperties.BED_PART) == BedPart.FOOT;
         } else if (state.getBlock() instanceof DoorBlock || state.getBlock() instanceof DoublePlantBlock) {
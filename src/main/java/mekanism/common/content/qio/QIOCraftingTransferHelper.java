@@ -11,6 +11,7 @@ import it.unimi.dsi.fastutil.objects.ObjectIterator;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -25,6 +26,7 @@ import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.Slot;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -38,6 +40,12 @@ public class QIOCraftingTransferHelper {
      * @implNote We use raw hashed items as none of this stuff should or will be modified while doing these checks, so we may as well remove some unneeded copies.
      */
     public final Map<HashedItem, HashedItemSource> reverseLookup;
+    /**
+     * Lazily initialized index of the {@link HashedItem}s in the {@link #reverseLookup} grouped by their backing item type. This allows for doing the slower component
+     * aware comparisons against only the stored types that could possibly match rather than every type that is available.
+     */
+    @Nullable
+    private Map<Item, List<HashedItem>> fuzzyLookup;
     private byte emptyInventorySlots;
     private boolean isValid;
 
@@ -98,6 +106,19 @@ public class QIOCraftingTransferHelper {
         return reverseLookup.get(item);
     }
 
+    /**
+     * Gets all the available types that are backed by the given item.
+     */
+    public List<HashedItem> getTypesForItem(Item item) {
+        if (fuzzyLookup == null) {
+            fuzzyLookup = new IdentityHashMap<>();
+            for (HashedItem type : reverseLookup.keySet()) {
+                fuzzyLookup.computeIfAbsent(type.getItem(), i -> new ArrayList<>()).add(type);
+            }
+        }
+        return fuzzyLookup.getOrDefault(item, Collections.emptyList());
+    }
+
     public static class HashedItemSource {
 
         @Nullable
@@ -1,7 +1,5 @@
 package mekanism.common.content.qio;
 
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.SetMultimap;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import io.netty.buffer.ByteBuf;
@@ -23,7 +21,6 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.ObjLongConsumer;
-import java.util.function.Supplier;
 import java.util.function.ToLongFunction;
 import mekanism.api.Action;
 import mekanism.api.SerializationConstants;
@@ -36,8 +33,9 @@ import mekanism.common.CommonWorldTickHandler;
 import mekanism.common.Mekanism;
 import mekanism.common.base.TagCache;
 import mekanism.common.content.qio.QIODriveData.QIODriveKey;
+import mekanism.common.content.qio.QIOFrequencySnapshot.Lookups;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
-import mekanism.common.lib.WildcardMatcher;
+import mekanism.common.lib.WildcardMatchCache;
 import mekanism.common.lib.collection.BiMultimap;
 import mekanism.common.lib.frequency.Frequency;
 import mekanism.common.lib.frequency.FrequencyType;
@@ -63,6 +61,7 @@ import org.jetbrains.annotations.Nullable;
 public class QIOFrequency extends Frequency implements IColorableFrequency, IQIOFrequency {
 
     private static final RandomSource rand = RandomSource.create();
+    private static final int MAX_CACHED_WILDCARDS = 256;
     public static final Codec<QIOFrequency> CODEC = RecordCodecBuilder.create(instance -> baseCodec(instance)
           .and(EnumColor.CODEC.fieldOf(SerializationConstants.COLOR).forGetter(QIOFrequency::getColor))
           .apply(instance, (name, owner, securityMode, color) -> {
@@ -96,12 +95,10 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     private final Map<String, Set<HashedItem>> modIDLookupMap = new HashMap<>();
     // efficiently keep track of the items for use in fuzzy lookup utilized by the items stored
     private final Map<Item, Set<HashedItem>> fuzzyItemLookupMap = new IdentityHashMap<>();
-    // a sensitive cache for wildcard tag lookups (wildcard -> [matching tags])
-    private final SetMultimap<String, String> tagWildcardCache = HashMultimap.create();
-    private final Set<String> failedWildcardTags = new HashSet<>();
-    // a sensitive cache for wildcard modid lookups (wildcard -> [matching modids])
-    private final SetMultimap<String, String> modIDWildcardCache = HashMultimap.create();
-    private final Set<String> failedWildcardModIDs = new HashSet<>();
+    // a sensitive bounded cache for wildcard tag lookups (wildcard -> [matching tags])
+    private final WildcardMatchCache tagWildcardCache = new WildcardMatchCache(tagLookupMap::getAllKeys, MAX_CACHED_WILDCARDS);
+    // a sensitive bounded cache for wildcard modid lookups (wildcard -> [matching modids])
+    private final WildcardMatchCache modIDWildcardCache = new WildcardMatchCache(modIDLookupMap::keySet, MAX_CACHED_WILDCARDS);
 
     private final Set<UUID> updatedItems = new HashSet<>();
     private final Set<ServerPlayer> playersViewingItems = new HashSet<>();
@@ -110,6 +107,11 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     private boolean needsUpdate;
     /** If we have new item changes that haven't been saved. */
     private boolean isDirty;
+    /** If anything changed since the last time we published a snapshot. */
+    private boolean snapshotDirty = true;
+    /** If any item types or their tags changed since the last time we published a snapshot, and we need to copy the lookup indexes again. */
+    private boolean snapshotLookupsDirty = true;
+    private volatile QIOFrequencySnapshot snapshot = QIOFrequencySnapshot.EMPTY;
 
     private long totalCount, totalCountCapacity;
     private int totalTypeCapacity;
@@ -211,8 +213,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             if (tagLookupMap.putAll(tags, type) && !hasAllKeys) {
                 //If we added any tag item combinations, and we didn't have all the keys for tags this item has,
                 // then we need to clear our wildcard cache as our new tags may be valid for some of our wildcards
-                tagWildcardCache.clear();
-                failedWildcardTags.clear();
+                tagWildcardCache.invalidate();
             }
         }
         String modID = MekanismUtils.getModId(stack);
@@ -220,14 +221,14 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         if (modItems == null) {
             //If we added a new modid to the lookup map we also want to make sure that we clear our modid wildcard cache
             // as our new modid may be valid for some of our wildcards
-            modIDWildcardCache.clear();
-            failedWildcardModIDs.clear();
+            modIDWildcardCache.invalidate();
             modItems = new HashSet<>();
             modIDLookupMap.put(modID, modItems);
         }
         modItems.add(type);
         //Fuzzy item lookup has no wildcard cache related to it
         fuzzyItemLookupMap.computeIfAbsent(stack.getItem(), item -> new HashSet<>()).add(type);
+        snapshotLookupsDirty = true;
         //Ensure we have a matching uuid for this item
         QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(type);
         return new QIOItemTypeData(type);
@@ -289,14 +290,15 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
 
     private void removeItemData(HashedItem type) {
         itemDataMap.remove(type);
+        snapshotDirty = true;
+        snapshotLookupsDirty = true;
         //Note: We need to copy the tags to a new collection as otherwise when we start removing them from the lookup
         // they will also get removed from this view
         Set<String> tags = new HashSet<>(tagLookupMap.getKeys(type));
         if (tagLookupMap.removeValue(type) && !tagLookupMap.hasAllKeys(tags)) {
             //If we completely removed any tags clear our wildcard cache as it may have some wildcards that are
             // matching a tag that is no longer stored
-            tagWildcardCache.clear();
-            //Note: We don't need to clear the failed wildcard tags as if we are removing tags they still won't have any matches
+            tagWildcardCache.invalidate();
         }
         ItemStack stack = type.getInternalStack();
         String modID = MekanismUtils.getModId(stack);
@@ -308,8 +310,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         // matching a modid that is no longer stored
         if (itemsForMod != null && itemsForMod.remove(type) && itemsForMod.isEmpty()) {
             modIDLookupMap.remove(modID);
-            modIDWildcardCache.clear();
-            //Note: We don't need to clear the failed wildcard modids as if we are removing tags they still won't have any matches
+            modIDWildcardCache.invalidate();
         }
         Item item = stack.getItem();
         Set<HashedItem> itemsByFuzzy = fuzzyItemLookupMap.get(item);
@@ -350,63 +351,38 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     public Object2LongMap<HashedItem> getStacksByTagWildcard(String wildcard) {
-        if (hasMatchingElements(tagWildcardCache, failedWildcardTags, wildcard, tagLookupMap::getAllKeys)) {
-            Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
-            ToLongFunction<HashedItem> storedFunction = this::getStoredByHash;
-            for (String match : tagWildcardCache.get(wildcard)) {
-                for (HashedItem item : tagLookupMap.getValues(match)) {
-                    //If our return map doesn't already have the stored value in it, calculate it.
-                    // The case where it may have the stored value in it is if an item has multiple
-                    // tags that all match the wildcard
-                    ret.computeIfAbsent(item, storedFunction);
-                }
-            }
-            return ret;
+        Set<String> matches = tagWildcardCache.getMatches(wildcard);
+        if (matches.isEmpty()) {
+            return Object2LongMaps.emptyMap();
         }
-        return Object2LongMaps.emptyMap();
-    }
-
-    public Object2LongMap<HashedItem> getStacksByModIDWildcard(String wildcard) {
-        if (hasMatchingElements(modIDWildcardCache, failedWildcardModIDs, wildcard, modIDLookupMap::keySet)) {
-            Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
-            for (String match : modIDWildcardCache.get(wildcard)) {
-                for (HashedItem item : modIDLookupMap.get(match)) {
-                    //Note: Unlike in getStacksByTagWildcard, we don't use computeLongIfAbsent here because
-                    // each stack only has one modid, so while we may have multiple modids that match our
-                    // wildcard, the stacks that correspond to said modids will be unique
-                    ret.put(item, getStoredByHash(item));
-                }
+        Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
+        ToLongFunction<HashedItem> storedFunction = this::getStoredByHash;
+        for (String match : matches) {
+            for (HashedItem item : tagLookupMap.getValues(match)) {
+                //If our return map doesn't already have the stored value in it, calculate it.
+                // The case where it may have the stored value in it is if an item has multiple
+                // tags that all match the wildcard
+                ret.computeIfAbsent(item, storedFunction);
             }
-            return ret;
         }
-        return Object2LongMaps.emptyMap();
+        return ret;
     }
 
-    private boolean hasMatchingElements(SetMultimap<String, String> wildcardCache, Set<String> failedWildcards, String wildcard, Supplier<Set<String>> entriesSupplier) {
-        if (failedWildcards.contains(wildcard)) {
-            //If we already know this wildcard has no matching things, fail fast
-            return false;
-        }
-        //If we don't have a cached value for the given wildcard, try to build up the corresponding cache
-        if (!wildcardCache.containsKey(wildcard) && !buildWildcardMapping(wildcardCache, wildcard, entriesSupplier.get())) {
-            // If we don't actually have any matches, mark that the wildcard failed, and return false
-            failedWildcards.add(wildcard);
-            return false;
+    public Object2LongMap<HashedItem> getStacksByModIDWildcard(String wildcard) {
+        Set<String> matches = modIDWildcardCache.getMatches(wildcard);
+        if (matches.isEmpty()) {
+            return Object2LongMaps.emptyMap();
         }
-        return true;
-    }
-
-    /**
-     * @return {@code true} if any wildcards were added.
-     */
-    private boolean buildWildcardMapping(SetMultimap<String, String> wildcardCache, String wildcard, Set<String> entries) {
-        boolean added = false;
-        for (String entry : entries) {
-            if (WildcardMatcher.matches(wildcard, entry)) {
-                added |= wildcardCache.put(wildcard, entry);
+        Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
+        for (String match : matches) {
+            for (HashedItem item : modIDLookupMap.get(match)) {
+                //Note: Unlike in getStacksByTagWildcard, we don't use computeLongIfAbsent here because
+                // each stack only has one modid, so while we may have multiple modids that match our
+                // wildcard, the stacks that correspond to said modids will be unique
+                ret.put(item, getStoredByHash(item));
             }
         }
-        return added;
+        return ret;
     }
 
     public void openItemViewer(ServerPlayer player) {
@@ -477,6 +453,44 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         return driveMap.values();
     }
 
+    /**
+     * Gets the most recently published snapshot of this frequency, this is safe to call from any thread.
+     *
+     * @implNote The contents are up to date as of the end of the previous tick.
+     */
+    public QIOFrequencySnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    private void publishSnapshot() {
+        if (snapshotDirty) {
+            Object2LongMap<HashedItem> stored = new Object2LongOpenHashMap<>(itemDataMap.size());
+            for (QIOItemTypeData data : itemDataMap.values()) {
+                stored.put(data.itemType, data.count);
+            }
+            Lookups lookups = snapshot.lookups();
+            if (snapshotLookupsDirty) {
+                //Only copy the indexes when the stored types changed, as most changes are just to the counts of types we already have
+                Map<String, Set<HashedItem>> byTag = new HashMap<>();
+                for (String tag : tagLookupMap.getAllKeys()) {
+                    byTag.put(tag, Set.copyOf(tagLookupMap.getValues(tag)));
+                }
+                lookups = new Lookups(Collections.unmodifiableMap(byTag), copyLookup(modIDLookupMap), copyLookup(fuzzyItemLookupMap));
+                snapshotLookupsDirty = false;
+            }
+            snapshot = new QIOFrequencySnapshot(totalCount, totalCountCapacity, totalTypeCapacity, Object2LongMaps.unmodifiable(stored), lookups);
+            snapshotDirty = false;
+        }
+    }
+
+    private static <KEY> Map<KEY, Set<HashedItem>> copyLookup(Map<KEY, Set<HashedItem>> lookup) {
+        Map<KEY, Set<HashedItem>> copy = new HashMap<>(lookup.size());
+        for (Entry<KEY, Set<HashedItem>> entry : lookup.entrySet()) {
+            copy.put(entry.getKey(), Set.copyOf(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(copy);
+    }
+
     @Override
     public boolean tick() {
         boolean superDirty = super.tick();
@@ -534,11 +548,14 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         if (CommonWorldTickHandler.flushTagAndRecipeCaches) {
             //Note: We only need to clear tags here as the modids cannot change just because a reload happened
             tagLookupMap.clear();
-            tagWildcardCache.clear();
+            tagWildcardCache.invalidate();
             for (QIOItemTypeData item : itemDataMap.values()) {
                 tagLookupMap.putAll(TagCache.getItemTags(item.itemType.getInternalStack()), item.itemType);
             }
+            snapshotDirty = true;
+            snapshotLookupsDirty = true;
         }
+        publishSnapshot();
         return superDirty;
     }
 
@@ -638,6 +655,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         // remove drive and capacity info from core tracking
         totalCountCapacity -= data.getCountCapacity();
         totalTypeCapacity -= data.getTypeCapacity();
+        snapshotDirty = true;
         driveMap.remove(key);
         // save the item list onto the physical drive
         key.updateMetadata(data);
@@ -655,6 +673,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
 
     private void setNeedsUpdate(@Nullable HashedItem changedItem) {
         isDirty = true;
+        snapshotDirty = true;
         if (!playersViewingItems.isEmpty()) {//Skip marking for update if there are no players viewing the items
             needsUpdate = true;
             if (changedItem != null) {
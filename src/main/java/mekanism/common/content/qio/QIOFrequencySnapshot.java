@@ -0,0 +1,93 @@
+package mekanism.common.content.qio;
+
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMaps;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ObjLongConsumer;
+import mekanism.common.lib.WildcardMatcher;
+import mekanism.common.lib.inventory.HashedItem;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Immutable view of the contents of a {@link QIOFrequency} as of the end of the last tick in which it changed. This can safely be queried from threads other than the
+ * server thread, such as the ones computer methods are run on.
+ *
+ * @param stored  Stored item types and their counts.
+ * @param lookups Stored item types by tag, modid, and item.
+ */
+public record QIOFrequencySnapshot(long totalCount, long totalCountCapacity, int totalTypeCapacity, Object2LongMap<HashedItem> stored, Lookups lookups) {
+
+    public static final QIOFrequencySnapshot EMPTY = new QIOFrequencySnapshot(0, 0, 0, Object2LongMaps.emptyMap(), Lookups.EMPTY);
+
+    public int totalTypes() {
+        return stored.size();
+    }
+
+    public long getStored(ItemStack type) {
+        return type.isEmpty() ? 0 : stored.getLong(HashedItem.raw(type));
+    }
+
+    public void forAllStored(ObjLongConsumer<ItemStack> consumer) {
+        for (Object2LongMap.Entry<HashedItem> entry : stored.object2LongEntrySet()) {
+            consumer.accept(entry.getKey().createStack(1), entry.getLongValue());
+        }
+    }
+
+    public Object2LongMap<HashedItem> getStacksByItem(Item item) {
+        return getStacksWithCounts(lookups.byItem().get(item));
+    }
+
+    public Object2LongMap<HashedItem> getStacksByTag(String tag) {
+        return getStacksWithCounts(lookups.byTag().get(tag));
+    }
+
+    public Object2LongMap<HashedItem> getStacksByModID(String modID) {
+        return getStacksWithCounts(lookups.byModID().get(modID));
+    }
+
+    public Object2LongMap<HashedItem> getStacksByTagWildcard(String wildcard) {
+        return getStacksByWildcard(lookups.byTag(), wildcard);
+    }
+
+    public Object2LongMap<HashedItem> getStacksByModIDWildcard(String wildcard) {
+        return getStacksByWildcard(lookups.byModID(), wildcard);
+    }
+
+    private Object2LongMap<HashedItem> getStacksWithCounts(@Nullable Set<HashedItem> items) {
+        if (items == null || items.isEmpty()) {
+            return Object2LongMaps.emptyMap();
+        }
+        Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>(items.size());
+        for (HashedItem item : items) {
+            ret.put(item, stored.getLong(item));
+        }
+        return ret;
+    }
+
+    private Object2LongMap<HashedItem> getStacksByWildcard(Map<String, Set<HashedItem>> lookup, String wildcard) {
+        //Note: We don't have access to the frequency's wildcard caches from other threads, so we just check all the keys, which is fine as we aren't on the server thread
+        Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
+        for (Map.Entry<String, Set<HashedItem>> entry : lookup.entrySet()) {
+            if (WildcardMatcher.matches(wildcard, entry.getKey())) {
+                for (HashedItem item : entry.getValue()) {
+                    ret.put(item, stored.getLong(item));
+                }
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Immutable copies of the lookup indexes of a {@link QIOFrequency}. These only change when item types get added or removed, so the same instance is shared between
+     * snapshots until that happens.
+     */
+    public record Lookups(Map<String, Set<HashedItem>> byTag, Map<String, Set<HashedItem>> byModID, Map<Item, Set<HashedItem>> byItem) {
+
+        public static final Lookups EMPTY = new Lookups(Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap());
+    }
+}
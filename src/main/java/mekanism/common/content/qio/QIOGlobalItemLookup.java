@@ -1,13 +1,20 @@
 package mekanism.common.content.qio;
 
-import com.google.common.collect.BiMap;
-import com.google.common.collect.HashBiMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import mekanism.api.SerializationConstants;
 import mekanism.common.Mekanism;
 import mekanism.common.lib.MekanismSavedData;
 import mekanism.common.lib.inventory.HashedItem;
+import mekanism.common.util.RegistryUtils;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.Tag;
@@ -31,15 +38,34 @@ public class QIOGlobalItemLookup {
      */
     @Nullable
     private QIOGlobalItemLookupDataHandler dataHandler;
-    //TODO - 1.19: Do we need to worry about synchronization for this map?
-    //keep track of a UUID for each hashed item. Note every hashed item in this can be assumed to be serializable
-    // we only don't store them as such for the generic so that we don't have to create extra objects for purposes
-    // of getting the uuid for a given item type
-    private BiMap<UUID, HashedItem> itemCache = HashBiMap.create();
+    /**
+     * Provider that was used when loading the saved data, used for lazily decoding the serialized representations of types.
+     */
+    @Nullable
+    private HolderLookup.Provider provider;
+    //TODO - 1.19: Do we need to worry about synchronization for these?
+    //Each tracked type is given a sequential index, with the uuid, the decoded type and (until it has been decoded) the raw nbt being stored at that index.
+    // Note every hashed item in this can be assumed to be serializable we only don't store them as such for the generic so that we don't have to create extra
+    // objects for purposes of getting the uuid for a given item type
+    private Object2IntMap<UUID> uuidIndex = createIndex();
+    private Object2IntMap<HashedItem> typeIndex = createIndex();
+    private List<UUID> uuids = new ArrayList<>();
+    private List<@Nullable HashedItem> types = new ArrayList<>();
+    private List<@Nullable CompoundTag> serializedTypes = new ArrayList<>();
+    //Indices of types that have not been decoded yet, grouped by the registry name of the item they represent so that reverse lookups only have to decode
+    // the entries that might possibly match
+    private Map<String, IntList> pendingByItem = new HashMap<>();
+
+    private static <KEY> Object2IntMap<KEY> createIndex() {
+        Object2IntMap<KEY> index = new Object2IntOpenHashMap<>();
+        index.defaultReturnValue(-1);
+        return index;
+    }
 
     @Nullable
     public UUID getUUIDForType(HashedItem item) {
-        return itemCache.inverse().get(item);
+        int index = getIndexForType(item);
+        return index == -1 ? null : uuids.get(index);
     }
 
     /**
@@ -47,23 +73,81 @@ public class QIOGlobalItemLookup {
      */
     public UUID getOrTrackUUID(HashedItem item) {
         //TODO - 1.19: Do we want this/other methods to error if we are called before the save data is loaded?
-        //Note: Unlike for getUUIDForType we have to wrap the hashed item into a SerializedHashedItem here in case it isn't present
-        // as we want to make sure only serialized hashed items are put into the map
-        SerializedHashedItem serializable = new SerializedHashedItem(item);
-        BiMap<HashedItem, UUID> inverseCache = itemCache.inverse();
-        UUID uuid = inverseCache.get(serializable);
-        if (uuid == null) {
-            //Calculate and return a new UUID and mark the save data as dirty
-            uuid = UUID.randomUUID();
-            itemCache.put(uuid, serializable);
-            markDirty();
+        int index = getIndexForType(item);
+        if (index != -1) {
+            return uuids.get(index);
         }
+        //Calculate and return a new UUID and mark the save data as dirty
+        //Note: Unlike for getUUIDForType we have to wrap the hashed item into a SerializedHashedItem here
+        // as we want to make sure only serialized hashed items are put into the cache
+        UUID uuid = UUID.randomUUID();
+        track(uuid, new SerializedHashedItem(item), null);
+        markDirty();
         return uuid;
     }
 
     @Nullable
     public HashedItem getTypeByUUID(@Nullable UUID uuid) {
-        return uuid == null ? null : itemCache.get(uuid);
+        if (uuid == null) {
+            return null;
+        }
+        int index = uuidIndex.getInt(uuid);
+        return index == -1 ? null : getOrDecode(index);
+    }
+
+    private int track(UUID uuid, @Nullable HashedItem type, @Nullable CompoundTag serialized) {
+        int index = uuids.size();
+        uuids.add(uuid);
+        types.add(type);
+        serializedTypes.add(serialized);
+        uuidIndex.put(uuid, index);
+        if (type != null) {
+            typeIndex.put(type, index);
+        }
+        return index;
+    }
+
+    private int getIndexForType(HashedItem item) {
+        int index = typeIndex.getInt(item);
+        if (index == -1 && !pendingByItem.isEmpty()) {
+            //The type may not have been decoded yet, decode any pending entries that are for the same item and check again
+            IntList pending = pendingByItem.remove(RegistryUtils.getName(item.getItem()).toString());
+            if (pending != null) {
+                for (IntIterator iterator = pending.iterator(); iterator.hasNext(); ) {
+                    getOrDecode(iterator.nextInt());
+                }
+                index = typeIndex.getInt(item);
+            }
+        }
+        return index;
+    }
+
+    @Nullable
+    private HashedItem getOrDecode(int index) {
+        HashedItem type = types.get(index);
+        if (type == null && provider != null) {
+            CompoundTag serialized = serializedTypes.get(index);
+            if (serialized != null) {
+                ItemStack stack = ItemStack.parseOptional(provider, serialized);
+                //Only add the item if the item could be read. If it can't that means the mod adding the item was probably removed,
+                // in which case we keep the serialized form so that if the mod gets added back it exists again
+                if (stack.isEmpty()) {
+                    Mekanism.logger.debug("Failed to read corresponding item for UUID ({}) stored in {} saved data. "
+                                          + "This most likely means the mod adding the item was removed.", uuids.get(index), DATA_HANDLER_NAME);
+                } else {
+                    //Note: We can't cache the nbt we read from as something might have changed related to caps just from loading it, and we
+                    // want to make sure that we save it with the proper corresponding data
+                    type = new SerializedHashedItem(stack);
+                    int existing = typeIndex.getInt(type);
+                    if (existing == -1) {
+                        typeIndex.put(type, index);
+                    }
+                    types.set(index, type);
+                    serializedTypes.set(index, null);
+                }
+            }
+        }
+        return type;
     }
 
     private void markDirty() {
@@ -86,7 +170,13 @@ public class QIOGlobalItemLookup {
     public void reset() {
         //Reset instance as we may have massively different sizes for different worlds,
         // so we want to free up as much memory as we can
-        itemCache = HashBiMap.create();
+        uuidIndex = createIndex();
+        typeIndex = createIndex();
+        uuids = new ArrayList<>();
+        types = new ArrayList<>();
+        serializedTypes = new ArrayList<>();
+        pendingByItem = new HashMap<>();
+        provider = null;
         dataHandler = null;
     }
 
@@ -95,6 +185,8 @@ public class QIOGlobalItemLookup {
         @Override
         public void load(@NotNull CompoundTag nbt, @NotNull HolderLookup.Provider provider) {
             //TODO - 1.19: Do we want to clear existing elements
+            QIOGlobalItemLookup lookup = QIOGlobalItemLookup.INSTANCE;
+            lookup.provider = provider;
             for (String key : nbt.getAllKeys()) {
                 UUID uuid;
                 try {
@@ -103,17 +195,10 @@ public class QIOGlobalItemLookup {
                     Mekanism.logger.warn("Invalid UUID ({}) stored in {} saved data.", key, DATA_HANDLER_NAME);
                     continue;
                 }
-                ItemStack stack = ItemStack.parseOptional(provider, nbt.getCompound(key));
-                //Only add the item if the item could be read. If it can't that means the mod adding the item was probably removed
-                if (stack.isEmpty()) {
-                    Mekanism.logger.debug("Failed to read corresponding item for UUID ({}) stored in {} saved data. "
-                                          + "This most likely means the mod adding the item was removed.", uuid, DATA_HANDLER_NAME);
-                } else {
-                    //Note: We can't cache the nbt we read from as something might have changed related to caps just from loading it, and we
-                    // want to make sure that we save it with the proper corresponding data
-                    //TODO: Eventually we may want to keep the NBT so that if the mod gets added back it exists again
-                    QIOGlobalItemLookup.INSTANCE.itemCache.put(uuid, new SerializedHashedItem(stack));
-                }
+                //Note: We don't decode the stack until the first time it is actually needed, as most types are never looked up again
+                CompoundTag serialized = nbt.getCompound(key);
+                int index = lookup.track(uuid, null, serialized);
+                lookup.pendingByItem.computeIfAbsent(serialized.getString(SerializationConstants.ID), id -> new IntArrayList()).add(index);
             }
         }
 
@@ -121,8 +206,14 @@ public class QIOGlobalItemLookup {
         @Override
         public CompoundTag save(@NotNull CompoundTag nbt, @NotNull HolderLookup.Provider provider) {
             //TODO - 1.19: See if we can further improve this
-            for (Map.Entry<UUID, HashedItem> entry : QIOGlobalItemLookup.INSTANCE.itemCache.entrySet()) {
-                nbt.put(entry.getKey().toString(), ((SerializedHashedItem) entry.getValue()).getNbtRepresentation(provider));
+            QIOGlobalItemLookup lookup = QIOGlobalItemLookup.INSTANCE;
+            for (int i = 0, size = lookup.uuids.size(); i < size; i++) {
+                HashedItem type = lookup.types.get(i);
+                //If the type was never decoded, just write back the representation we loaded it from
+                Tag representation = type == null ? lookup.serializedTypes.get(i) : ((SerializedHashedItem) type).getNbtRepresentation(provider);
+                if (representation != null) {
+                    nbt.put(lookup.uuids.get(i).toString(), representation);
+                }
             }
             return nbt;
         }
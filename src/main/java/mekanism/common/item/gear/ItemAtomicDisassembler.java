@@ -3,7 +3,6 @@ package mekanism.common.item.gear;
 import com.google.common.collect.ImmutableList;
 import com.mojang.serialization.Codec;
 import io.netty.buffer.ByteBuf;
-import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Reference2BooleanMaps;
 import java.util.List;
 import java.util.Locale;
@@ -31,6 +30,8 @@ import mekanism.client.render.RenderPropertiesProvider;
 import mekanism.common.Mekanism;
 import mekanism.common.MekanismLang;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.content.gear.VeinMiningJob;
+import mekanism.common.content.gear.VeinMiningScheduler;
 import mekanism.common.content.gear.mekatool.ModuleExcavationEscalationUnit.ExcavationMode;
 import mekanism.common.content.gear.mekatool.ModuleVeinMiningUnit;
 import mekanism.common.item.ItemEnergized;
@@ -176,11 +177,10 @@ public class ItemAtomicDisassembler extends ItemEnergized implements IItemHUDPro
                 energyContainer.extract(energyRequired, Action.SIMULATE, AutomationType.MANUAL).greaterOrEqual(energyRequired)) {
                 // Only allow mining things that are considered an ore
                 if (ModuleVeinMiningUnit.canVeinBlock(state) && state.is(MekanismTags.Blocks.ATOMIC_DISASSEMBLER_ORE)) {
-                    Object2IntMap<BlockPos> found = ModuleVeinMiningUnit.findPositions(world, Map.of(pos, state), 0,
-                          Reference2BooleanMaps.singleton(state.getBlock(), true));
-                    MekanismUtils.veinMineArea(energyContainer, energyRequired, FloatingLong.ZERO, baseDestroyEnergy, world, pos, player, stack, this, found,
+                    VeinMiningScheduler.start(new VeinMiningJob(player, world, stack, this, pos, Map.of(pos, state), 0,
+                          Reference2BooleanMaps.singleton(state.getBlock(), true), energyRequired, FloatingLong.ZERO, baseDestroyEnergy,
                           (base, hardness) -> FloatingLong.ZERO,
-                          (base, hardness, distance, bs) -> getDestroyEnergy(base, hardness).multiply(0.5 * Math.pow(distance, 1.5)));
+                          (base, hardness, distance, bs) -> getDestroyEnergy(base, hardness).multiply(0.5 * Math.pow(distance, 1.5))));
                 }
             }
         }
@@ -3,14 +3,13 @@ package mekanism.common.item.gear;
 import com.google.common.collect.ImmutableList;
 import it.unimi.dsi.fastutil.ints.Int2ObjectArrayMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import it.unimi.dsi.fastutil.objects.Object2IntArrayMap;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Reference2BooleanArrayMap;
 import it.unimi.dsi.fastutil.objects.Reference2BooleanMap;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanMaps;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import mekanism.api.Action;
@@ -31,6 +30,8 @@ import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.gear.IBlastingItem;
 import mekanism.common.content.gear.IRadialModuleContainerItem;
 import mekanism.common.content.gear.ModuleHelper;
+import mekanism.common.content.gear.VeinMiningJob;
+import mekanism.common.content.gear.VeinMiningScheduler;
 import mekanism.common.content.gear.mekatool.ModuleAttackAmplificationUnit;
 import mekanism.common.content.gear.mekatool.ModuleBlastingUnit;
 import mekanism.common.content.gear.mekatool.ModuleExcavationEscalationUnit;
@@ -263,16 +264,21 @@ public class ItemMekaTool extends ItemEnergized implements IRadialModuleContaine
                 Map<BlockPos, BlockState> blocks = getBlastedBlocks(world, player, stack, pos, state);
                 blocks = blocks.isEmpty() && ModuleVeinMiningUnit.canVeinBlock(state) ? Map.of(pos, state) : blocks;
 
-                Reference2BooleanMap<Block> oreTracker = blocks.values().stream().collect(Collectors.toMap(BlockStateBase::getBlock,
-                      bs -> bs.is(MekanismTags.Blocks.ATOMIC_DISASSEMBLER_ORE), (l, r) -> l, Reference2BooleanArrayMap::new));
-
-                Object2IntMap<BlockPos> veinedBlocks = getVeinedBlocks(world, stack, blocks, oreTracker);
-                if (!veinedBlocks.isEmpty()) {
+                if (!blocks.isEmpty()) {
+                    int extendedRange = 0;
+                    Reference2BooleanMap<Block> oreTracker = Reference2BooleanMaps.emptyMap();
+                    IModule<ModuleVeinMiningUnit> veinMiningUnit = getEnabledModule(stack, MekanismModules.VEIN_MINING_UNIT);
+                    if (veinMiningUnit != null) {
+                        ModuleVeinMiningUnit customInstance = veinMiningUnit.getCustomInstance();
+                        extendedRange = customInstance.extended() ? customInstance.getExcavationRange() : 0;
+                        oreTracker = blocks.values().stream().collect(Collectors.toMap(BlockStateBase::getBlock,
+                              bs -> bs.is(MekanismTags.Blocks.ATOMIC_DISASSEMBLER_ORE), (l, r) -> l, Reference2BooleanArrayMap::new));
+                    }
                     //Don't include bonus energy required by efficiency modules when calculating energy of vein mining targets
                     FloatingLong baseDestroyEnergy = getDestroyEnergy(silk);
-                    MekanismUtils.veinMineArea(energyContainer, energyRequired, modDestroyEnergy, baseDestroyEnergy, world, pos, player, stack, this, veinedBlocks,
-                          ItemMekaTool::getDestroyEnergy, (base, hardness, distance, bs) -> getDestroyEnergy(base, hardness)
-                                .multiply(0.5 * Math.pow(distance, bs.is(MekanismTags.Blocks.ATOMIC_DISASSEMBLER_ORE) ? 1.5 : 2)));
+                    VeinMiningScheduler.start(new VeinMiningJob(player, world, stack, this, pos, blocks, extendedRange, oreTracker, energyRequired, modDestroyEnergy,
+                          baseDestroyEnergy, ItemMekaTool::getDestroyEnergy, (base, hardness, distance, bs) -> getDestroyEnergy(base, hardness)
+                                .multiply(0.5 * Math.pow(distance, bs.is(MekanismTags.Blocks.ATOMIC_DISASSEMBLER_ORE) ? 1.5 : 2))));
                 }
             }
         }
@@ -314,15 +320,6 @@ public class ItemMekaTool extends ItemEnergized implements IRadialModuleContaine
         return Collections.emptyMap();
     }
 
-    private Object2IntMap<BlockPos> getVeinedBlocks(Level world, ItemStack stack, Map<BlockPos, BlockState> blocks, Reference2BooleanMap<Block> oreTracker) {
-        IModule<ModuleVeinMiningUnit> veinMiningUnit = getEnabledModule(stack, MekanismModules.VEIN_MINING_UNIT);
-        if (veinMiningUnit != null) {
-            ModuleVeinMiningUnit customInstance = veinMiningUnit.getCustomInstance();
-            return ModuleVeinMiningUnit.findPositions(world, blocks, customInstance.extended() ? customInstance.getExcavationRange() : 0, oreTracker);
-        }
-        return blocks.entrySet().stream().collect(Collectors.toMap(Entry::getKey, be -> 0, (l, r) -> l, Object2IntArrayMap::new));
-    }
-
     private static FloatingLong getDestroyEnergy(boolean silk) {
         return silk ? MekanismConfig.gear.mekaToolEnergyUsageSilk.get() : MekanismConfig.gear.mekaToolEnergyUsage.get();
     }
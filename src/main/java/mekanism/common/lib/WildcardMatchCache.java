@@ -0,0 +1,152 @@
+package mekanism.common.lib;
+
+import it.unimi.dsi.fastutil.chars.Char2ObjectMap;
+import it.unimi.dsi.fastutil.chars.Char2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import mekanism.common.lib.collection.LRU;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A bounded cache of which entries (for example tag names or mod ids) match a given wildcard, following the same rules as {@link WildcardMatcher}. Candidates are found by
+ * walking a trie of the entries, so that entries sharing a prefix are only compared once, and the least recently used wildcards get evicted once the cache is full.
+ *
+ * @implNote The trie finds every entry that could match the wildcard if a {@code *} is allowed to match any sequence of characters. {@link WildcardMatcher} doesn't
+ * backtrack once it has matched the text after a {@code *}, so it rejects some of those entries (for example {@code a*b} doesn't match {@code abab}). To make sure both
+ * paths always select the same entries, the candidates found by the trie are checked with {@link WildcardMatcher} before being cached.
+ */
+public class WildcardMatchCache {
+
+    private final Supplier<? extends Collection<String>> entriesSupplier;
+    private final int maxSize;
+    private final LRU<String> recentWildcards = new LRU<>();
+    private final Map<String, Set<String>> cachedMatches = new HashMap<>();
+    @Nullable
+    private TrieNode root;
+    private int nodeCount;
+    private long hits;
+    private long misses;
+
+    /**
+     * @param entriesSupplier Supplier for the current entries to match wildcards against. This is only queried when the trie needs to be (re)built.
+     * @param maxSize         Maximum number of wildcards to cache the matches of.
+     */
+    public WildcardMatchCache(Supplier<? extends Collection<String>> entriesSupplier, int maxSize) {
+        this.entriesSupplier = entriesSupplier;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Gets all the entries that match the given wildcard.
+     *
+     * @return An unmodifiable view of the matching entries, empty if nothing matches.
+     */
+    public Set<String> getMatches(String wildcard) {
+        Set<String> matches = cachedMatches.get(wildcard);
+        if (matches != null) {
+            hits++;
+            recentWildcards.moveUp(wildcard);
+            return matches;
+        }
+        misses++;
+        if (root == null) {
+            buildTrie();
+        }
+        Set<String> found = new HashSet<>();
+        root.collectMatches(wildcard.toLowerCase(Locale.ROOT), 0, found, new LongOpenHashSet());
+        found.removeIf(entry -> !WildcardMatcher.matches(wildcard, entry));
+        matches = found.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(found);
+        cachedMatches.put(wildcard, matches);
+        recentWildcards.add(wildcard);
+        if (recentWildcards.size() > maxSize) {
+            cachedMatches.remove(recentWildcards.removeLast());
+        }
+        return matches;
+    }
+
+    /**
+     * Invalidates all cached matches and the trie. This should be called whenever the entries provided by the entries supplier change.
+     */
+    public void invalidate() {
+        cachedMatches.clear();
+        recentWildcards.clear();
+        root = null;
+    }
+
+    public int size() {
+        return cachedMatches.size();
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    private void buildTrie() {
+        nodeCount = 0;
+        root = new TrieNode();
+        for (String entry : entriesSupplier.get()) {
+            TrieNode node = root;
+            String lowerCase = entry.toLowerCase(Locale.ROOT);
+            for (int i = 0, length = lowerCase.length(); i < length; i++) {
+                char c = lowerCase.charAt(i);
+                TrieNode child = node.children.get(c);
+                if (child == null) {
+                    child = new TrieNode();
+                    node.children.put(c, child);
+                }
+                node = child;
+            }
+            node.entries.add(entry);
+        }
+    }
+
+    private class TrieNode {
+
+        private final Char2ObjectMap<TrieNode> children = new Char2ObjectOpenHashMap<>();
+        //Note: There may be multiple entries that end at a given node if they only differ in case
+        private final Set<String> entries = new HashSet<>(1);
+        private final int id = nodeCount++;
+
+        private void collectMatches(String wildcard, int wildcardIndex, Set<String> found, LongSet visited) {
+            //Skip any node and position in the wildcard we have already checked, this keeps wildcards with multiple '*' from exploding
+            if (!visited.add((long) id << 32 | wildcardIndex)) {
+                return;
+            }
+            if (wildcardIndex == wildcard.length()) {
+                found.addAll(entries);
+                return;
+            }
+            char wc = wildcard.charAt(wildcardIndex);
+            if (wc == '*') {
+                //Either the wildcard matches nothing more, or it consumes the next character and stays on the '*'
+                collectMatches(wildcard, wildcardIndex + 1, found, visited);
+                for (TrieNode child : children.values()) {
+                    child.collectMatches(wildcard, wildcardIndex, found, visited);
+                }
+            } else if (wc == '?' || wc == '#') {
+                for (Char2ObjectMap.Entry<TrieNode> entry : children.char2ObjectEntrySet()) {
+                    if (wc == '?' || Character.isDigit(entry.getCharKey())) {
+                        entry.getValue().collectMatches(wildcard, wildcardIndex + 1, found, visited);
+                    }
+                }
+            } else {
+                TrieNode child = children.get(wc);
+                if (child != null) {
+                    child.collectMatches(wildcard, wildcardIndex + 1, found, visited);
+                }
+            }
+        }
+    }
+}
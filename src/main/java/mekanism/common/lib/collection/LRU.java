@@ -65,6 +65,29 @@ public class LRU<T> extends AbstractCollection<T> {
         return true;
     }
 
+    /**
+     * Removes the least recently used element.
+     *
+     * @return the removed element, or null if this LRU is empty
+     */
+    @Nullable
+    public T removeLast() {
+        LRUEntry<T> entry = tail.prev;
+        if (entry == head) {
+            return null;
+        }
+        removeEntry(entry);
+        return entry.value;
+    }
+
+    @Override
+    public void clear() {
+        head.next = tail;
+        tail.prev = head;
+        size = 0;
+        lookupMap.clear();
+    }
+
     @Override
     public boolean contains(Object element) {
         return lookupMap.containsKey(element);
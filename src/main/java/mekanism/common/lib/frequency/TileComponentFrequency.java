@@ -69,6 +69,13 @@ public class TileComponentFrequency implements ITileComponent {
         return !nonSecurityFrequencies.isEmpty();
     }
 
+    /**
+     * @return {@code true} if this component doesn't have any work it needs to do each tick.
+     */
+    public boolean isIdle() {
+        return nonSecurityFrequencies.isEmpty() && !needsSave && !needsNotify;
+    }
+
     public Set<FrequencyType<?>> getCustomFrequencies() {
         return nonSecurityFrequencies.keySet();
     }
@@ -3,16 +3,17 @@ package mekanism.common.lib.radiation;
 import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.Table;
 import com.google.common.collect.Tables;
+import it.unimi.dsi.fastutil.longs.Long2DoubleMap;
+import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import mekanism.api.Chunk3D;
@@ -32,7 +33,7 @@ import mekanism.api.text.ITooltipHelper;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.lib.MekanismSavedData;
-import mekanism.common.lib.collection.HashList;
+import mekanism.common.lib.radiation.RadiationSourceGrid.Exposure;
 import mekanism.common.network.to_client.radiation.PacketEnvironmentalRadiationData;
 import mekanism.common.network.to_client.radiation.PacketPlayerRadiationData;
 import mekanism.common.registries.MekanismDamageTypes;
@@ -45,6 +46,7 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.GlobalPos;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.core.RegistryAccess;
+import net.minecraft.core.registries.Registries;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.NbtOps;
@@ -111,12 +113,27 @@ public class RadiationManager implements IRadiationManager {
 
     public static final double BASELINE = 0.000_000_100; // 100 nSv/h
     public static final double MIN_MAGNITUDE = 0.000_010; // 10 uSv/h
+    private static final int MAX_CACHED_LEVELS = 8_192;
+    private static final RadiationSourceStore EMPTY_STORE = new RadiationSourceStore();
 
     private boolean loaded;
 
-    private final Table<Chunk3D, GlobalPos, RadiationSource> radiationTable = HashBasedTable.create();
-    private final Table<Chunk3D, GlobalPos, IRadiationSource> radiationView = Tables.unmodifiableTable(radiationTable);
+    //Sources in each dimension, dimensions without any sources are removed so that this being empty means there are no sources at all
+    private final Map<ResourceKey<Level>, RadiationSourceStore> sourceStores = new Object2ObjectOpenHashMap<>();
+    //Lazily built view of the sources for the api, cleared whenever sources get added or removed
+    @Nullable
+    private Table<Chunk3D, GlobalPos, IRadiationSource> radiationView;
     private final Map<ResourceLocation, List<Meltdown>> meltdowns = new Object2ObjectOpenHashMap<>();
+    //Lazily built spatial index of the sources in each dimension, cleared whenever sources get added or removed
+    private final Map<ResourceKey<Level>, RadiationSourceGrid> sourceGrids = new Object2ObjectOpenHashMap<>();
+    private final Exposure exposure = new Exposure();
+    //Bumped whenever the magnitude of any source changes other than by decaying, used to know when cached exposure levels need to be recalculated
+    private long radiationEpoch;
+    //How much sources have been decayed by since the epoch started
+    private double epochDecayScale = 1;
+    private final Map<ResourceKey<Level>, Long2DoubleMap> cachedLevels = new Object2ObjectOpenHashMap<>();
+    private long cachedEpoch = -1;
+    private int cachedRadius;
 
     private final Map<UUID, PreviousRadiationData> playerEnvironmentalExposureMap = new Object2ObjectOpenHashMap<>();
     private final Map<UUID, PreviousRadiationData> playerExposureMap = new Object2ObjectOpenHashMap<>();
@@ -144,6 +161,83 @@ public class RadiationManager implements IRadiationManager {
         }
     }
 
+    /**
+     * Marks that the sources that exist have changed and the spatial index needs to be rebuilt. This does not need to be called when only the magnitude of a source
+     * changes.
+     */
+    private void onSourcesChanged() {
+        sourceGrids.clear();
+        radiationView = null;
+        onMagnitudesChanged();
+    }
+
+    /**
+     * Marks that the magnitude of at least one source changed, so any cached exposure levels are no longer valid.
+     */
+    private void onMagnitudesChanged() {
+        radiationEpoch++;
+        epochDecayScale = 1;
+    }
+
+    /**
+     * Gets the radiation level at the position of the given entity, reusing the level that was previously calculated at that position if no sources have changed since
+     * then.
+     */
+    private double getCachedRadiationLevel(Entity entity) {
+        if (sourceStores.isEmpty()) {//Short circuit when there are no sources
+            return BASELINE;
+        }
+        int radius = MekanismConfig.general.radiationChunkCheckRadius.get();
+        if (cachedEpoch != radiationEpoch || cachedRadius != radius) {
+            cachedLevels.clear();
+            cachedEpoch = radiationEpoch;
+            cachedRadius = radius;
+        }
+        ResourceKey<Level> dimension = entity.level().dimension();
+        Long2DoubleMap levels = cachedLevels.computeIfAbsent(dimension, dim -> {
+            Long2DoubleMap map = new Long2DoubleOpenHashMap();
+            map.defaultReturnValue(-1);
+            return map;
+        });
+        BlockPos pos = entity.blockPosition();
+        long packedPos = pos.asLong();
+        //Note: The cached levels are stored without the baseline and as if no decay had happened since the epoch started,
+        // as decaying scales every source by the same amount we can then just scale the cached value
+        double cached = levels.get(packedPos);
+        if (cached >= 0) {
+            return BASELINE + cached * epochDecayScale;
+        }
+        double level = computeExposure(GlobalPos.of(dimension, pos)).level;
+        if (levels.size() >= MAX_CACHED_LEVELS) {
+            levels.clear();
+        }
+        levels.put(packedPos, (level - BASELINE) / epochDecayScale);
+        return level;
+    }
+
+    private RadiationSourceGrid getSourceGrid(ResourceKey<Level> dimension) {
+        RadiationSourceGrid grid = sourceGrids.get(dimension);
+        if (grid == null) {
+            RadiationSourceStore store = sourceStores.get(dimension);
+            grid = new RadiationSourceGrid(store == null ? EMPTY_STORE : store);
+            sourceGrids.put(dimension, grid);
+        }
+        return grid;
+    }
+
+    /**
+     * Calculates the exposure at the given position.
+     *
+     * @implNote The returned exposure is reused by subsequent calls.
+     */
+    private Exposure computeExposure(GlobalPos pos) {
+        int radius = MekanismConfig.general.radiationChunkCheckRadius.get();
+        // we only compute exposure when within the MAX_RANGE bounds
+        double maxRange = Mth.square(radius * 16);
+        getSourceGrid(pos.dimension()).accumulateExposure(pos.pos(), radius, maxRange, exposure.reset());
+        return exposure;
+    }
+
     @Override
     public DamageSource getRadiationDamageSource(RegistryAccess registryAccess) {
         return MekanismDamageTypes.RADIATION.source(registryAccess);
@@ -156,7 +250,7 @@ public class RadiationManager implements IRadiationManager {
 
     @Override
     public double getRadiationLevel(Entity entity) {
-        if (radiationTable.isEmpty()) {//Short circuit when the radiation table is empty
+        if (sourceStores.isEmpty()) {//Short circuit when there are no sources
             return BASELINE;
         }
         return getRadiationLevel(GlobalPos.of(entity.level().dimension(), entity.blockPosition()));
@@ -181,14 +275,60 @@ public class RadiationManager implements IRadiationManager {
 
     @Override
     public Table<Chunk3D, GlobalPos, IRadiationSource> getRadiationSources() {
+        if (radiationView == null) {
+            Table<Chunk3D, GlobalPos, IRadiationSource> table = HashBasedTable.create();
+            for (Map.Entry<ResourceKey<Level>, RadiationSourceStore> entry : sourceStores.entrySet()) {
+                ResourceKey<Level> dimension = entry.getKey();
+                RadiationSourceStore store = entry.getValue();
+                for (int i = 0, size = store.size(); i < size; i++) {
+                    GlobalPos pos = GlobalPos.of(dimension, BlockPos.of(store.getPos(i)));
+                    table.put(new Chunk3D(pos), pos, new RadiationSource(this, pos));
+                }
+            }
+            radiationView = Tables.unmodifiableTable(table);
+        }
         return radiationView;
     }
 
+    /**
+     * @return The magnitude of the source at the given position, or zero if there is no source there.
+     */
+    double getSourceMagnitude(GlobalPos pos) {
+        RadiationSourceStore store = sourceStores.get(pos.dimension());
+        return store == null ? 0 : store.getMagnitudeAt(pos.pos().asLong());
+    }
+
+    /**
+     * Decays the single source at the given position.
+     *
+     * @return {@code true} if the source decayed below {@link #MIN_MAGNITUDE} and was removed.
+     */
+    boolean decaySource(GlobalPos pos) {
+        RadiationSourceStore store = sourceStores.get(pos.dimension());
+        if (store == null || !store.contains(pos.pos().asLong())) {
+            return false;
+        }
+        boolean removed = store.decay(pos.pos().asLong(), MekanismConfig.general.radiationSourceDecayRate.get());
+        if (removed) {
+            if (store.isEmpty()) {
+                sourceStores.remove(pos.dimension());
+            }
+            onSourcesChanged();
+        } else {
+            onMagnitudesChanged();
+        }
+        markDirty();
+        return removed;
+    }
+
     @Override
     public void removeRadiationSources(Chunk3D chunk) {
-        Map<GlobalPos, RadiationSource> chunkSources = radiationTable.row(chunk);
-        if (!chunkSources.isEmpty()) {
-            chunkSources.clear();
+        RadiationSourceStore store = sourceStores.get(chunk.dimension);
+        if (store != null && store.removeChunk(chunk.x, chunk.z)) {
+            if (store.isEmpty()) {
+                sourceStores.remove(chunk.dimension);
+            }
+            onSourcesChanged();
             markDirty();
             updateClientRadiationForAll(chunk.dimension);
         }
@@ -196,9 +336,12 @@ public class RadiationManager implements IRadiationManager {
 
     @Override
     public void removeRadiationSource(GlobalPos pos) {
-        Chunk3D chunk = new Chunk3D(pos);
-        if (radiationTable.contains(chunk, pos)) {
-            radiationTable.remove(chunk, pos);
+        RadiationSourceStore store = sourceStores.get(pos.dimension());
+        if (store != null && store.remove(pos.pos().asLong())) {
+            if (store.isEmpty()) {
+                sourceStores.remove(pos.dimension());
+            }
+            onSourcesChanged();
             markDirty();
             updateClientRadiationForAll(pos.dimension());
         }
@@ -206,47 +349,25 @@ public class RadiationManager implements IRadiationManager {
 
     @Override
     public double getRadiationLevel(GlobalPos pos) {
-        if (radiationTable.isEmpty()) {//Short circuit when the radiation table is empty
+        if (sourceStores.isEmpty()) {//Short circuit when there are no sources
             return BASELINE;
         }
-        return getRadiationLevelAndMaxMagnitude(pos).level();
+        return computeExposure(pos).level;
     }
 
     public LevelAndMaxMagnitude getRadiationLevelAndMaxMagnitude(Entity entity) {
-        if (radiationTable.isEmpty()) {//Short circuit when the radiation table is empty
+        if (sourceStores.isEmpty()) {//Short circuit when there are no sources
             return LevelAndMaxMagnitude.BASELINE;
         }
         return getRadiationLevelAndMaxMagnitude(GlobalPos.of(entity.level().dimension(), entity.blockPosition()));
     }
 
     public LevelAndMaxMagnitude getRadiationLevelAndMaxMagnitude(GlobalPos pos) {
-        if (radiationTable.isEmpty()) {//Short circuit when the radiation table is empty
+        if (sourceStores.isEmpty()) {//Short circuit when there are no sources
             return LevelAndMaxMagnitude.BASELINE;
         }
-        double level = BASELINE;
-        double maxMagnitude = BASELINE;
-        Chunk3D center = new Chunk3D(pos);
-        int radius = MekanismConfig.general.radiationChunkCheckRadius.get();
-        // we only compute exposure when within the MAX_RANGE bounds
-        double maxRange = Mth.square(radius * 16);
-        int minX = center.x - radius;
-        int maxX = center.x + radius;
-        int minZ = center.z - radius;
-        int maxZ = center.z + radius;
-        //Note: We inline the logic from Chunk3D#expand to avoid allocating a new hash set each time
-        for (int i = minX; i <= maxX; i++) {
-            for (int j = minZ; j <= maxZ; j++) {
-                Chunk3D chunk = new Chunk3D(center.dimension, i, j);
-                for (Map.Entry<GlobalPos, RadiationSource> entry : radiationTable.row(chunk).entrySet()) {
-                    if (entry.getKey().pos().distSqr(pos.pos()) <= maxRange) {
-                        RadiationSource source = entry.getValue();
-                        level += computeExposure(pos, source);
-                        maxMagnitude = Math.max(maxMagnitude, source.getMagnitude());
-                    }
-                }
-            }
-        }
-        return new LevelAndMaxMagnitude(level, maxMagnitude);
+        Exposure exposure = computeExposure(pos);
+        return new LevelAndMaxMagnitude(exposure.level, exposure.maxMagnitude);
     }
 
     @Override
@@ -254,12 +375,11 @@ public class RadiationManager implements IRadiationManager {
         if (!isRadiationEnabled()) {
             return;
         }
-        Map<GlobalPos, RadiationSource> radiationSourceMap = radiationTable.row(new Chunk3D(pos));
-        RadiationSource src = radiationSourceMap.get(pos);
-        if (src == null) {
-            radiationSourceMap.put(pos, new RadiationSource(pos, magnitude));
+        RadiationSourceStore store = sourceStores.computeIfAbsent(pos.dimension(), dimension -> new RadiationSourceStore());
+        if (store.radiate(pos.pos().asLong(), magnitude)) {
+            onSourcesChanged();
         } else {
-            src.radiate(magnitude);
+            onMagnitudesChanged();
         }
         markDirty();
         //Update radiation levels immediately
@@ -317,17 +437,14 @@ public class RadiationManager implements IRadiationManager {
     }
 
     public void clearSources() {
-        if (!radiationTable.isEmpty()) {
-            radiationTable.clear();
+        if (!sourceStores.isEmpty()) {
+            sourceStores.clear();
+            onSourcesChanged();
             markDirty();
             updateClientRadiationForAll();
         }
     }
 
-    private double computeExposure(GlobalPos pos, RadiationSource source) {
-        return source.getMagnitude() / Math.max(1, pos.pos().distSqr(source.getPos().pos()));
-    }
-
     private double getRadiationResistance(LivingEntity entity) {
         double resistance = 0;
         for (EquipmentSlot type : EnumUtils.ARMOR_SLOTS) {
@@ -424,7 +541,7 @@ public class RadiationManager implements IRadiationManager {
         // each tick, there is a 1/20 chance we will apply radiation to each player
         // this helps distribute the CPU load across ticks, and makes exposure slightly inconsistent
         if (entity.level().getRandom().nextInt(SharedConstants.TICKS_PER_SECOND) == 0) {
-            double magnitude = getRadiationLevel(entity);
+            double magnitude = getCachedRadiationLevel(entity);
             if (magnitude > BASELINE && (!(entity instanceof Player player) || MekanismUtils.isPlayingMode(player))) {
                 // apply radiation to the player
                 radiate(entity, magnitude / 3_600D); // convert to Sv/s
@@ -475,20 +592,33 @@ public class RadiationManager implements IRadiationManager {
 
     public void tickServer() {
         // terminate early if we're disabled or there is no radiation spots
-        if (!isRadiationEnabled() || radiationTable.isEmpty()) {
+        if (!isRadiationEnabled() || sourceStores.isEmpty()) {
             return;
         }
         // each tick, there's a 1/20 chance we'll decay radiation sources (averages to 1 decay operation per second)
         if (RAND.nextInt(SharedConstants.TICKS_PER_SECOND) == 0) {
-            Collection<RadiationSource> sources = radiationTable.values();
-            if (!sources.isEmpty()) {
+            double decayRate = MekanismConfig.general.radiationSourceDecayRate.get();
+            boolean removed = false;
+            for (Iterator<RadiationSourceStore> iterator = sourceStores.values().iterator(); iterator.hasNext(); ) {
+                RadiationSourceStore store = iterator.next();
                 // remove if source gets too low
-                sources.removeIf(RadiationSource::decay);
-                //Mark dirty regardless if we have any sources as magnitude changes or radiation sources change
-                markDirty();
-                //Update radiation levels for any players where it has changed
-                updateClientRadiationForAll();
+                if (store.decayAll(decayRate)) {
+                    removed = true;
+                    if (store.isEmpty()) {
+                        iterator.remove();
+                    }
+                }
+            }
+            if (removed) {
+                onSourcesChanged();
+            } else {
+                //All sources got decayed by the same amount, so we can just scale any cached exposure levels
+                epochDecayScale *= decayRate;
             }
+            //Mark dirty regardless if we have any sources as magnitude changes or radiation sources change
+            markDirty();
+            //Update radiation levels for any players where it has changed
+            updateClientRadiationForAll();
         }
     }
 
@@ -507,8 +637,10 @@ public class RadiationManager implements IRadiationManager {
     }
 
     public void reset() {
-        //Clear the table directly instead of via the method, so it doesn't mark it as dirty
-        radiationTable.clear();
+        //Clear the sources directly instead of via the method, so it doesn't mark it as dirty
+        sourceStores.clear();
+        onSourcesChanged();
+        cachedLevels.clear();
         playerEnvironmentalExposureMap.clear();
         playerExposureMap.clear();
         meltdowns.clear();
@@ -644,7 +776,7 @@ public class RadiationManager implements IRadiationManager {
     public static class RadiationDataHandler extends MekanismSavedData {
 
         private Map<ResourceLocation, List<Meltdown>> savedMeltdowns = Collections.emptyMap();
-        public Set<RadiationSource> loadedSources = Collections.emptySet();
+        private Map<ResourceKey<Level>, RadiationSourceStore> loadedSources = Collections.emptyMap();
         @Nullable
         public RadiationManager manager;
 
@@ -652,9 +784,8 @@ public class RadiationManager implements IRadiationManager {
             manager = m;
             // don't sync the manager if radiation has been disabled
             if (IRadiationManager.INSTANCE.isRadiationEnabled()) {
-                for (RadiationSource source : loadedSources) {
-                    manager.radiationTable.put(new Chunk3D(source.getPos()), source.getPos(), source);
-                }
+                manager.sourceStores.putAll(loadedSources);
+                manager.onSourcesChanged();
                 for (Map.Entry<ResourceLocation, List<Meltdown>> entry : savedMeltdowns.entrySet()) {
                     List<Meltdown> meltdowns = manager.meltdowns.get(entry.getKey());
                     if (meltdowns == null) {
@@ -669,21 +800,40 @@ public class RadiationManager implements IRadiationManager {
         public void clearCached() {
             //Clear cached sources and meltdowns after loading them to not keep pointers in our data handler
             // that are referencing objects that eventually will be removed
-            loadedSources = Collections.emptySet();
+            loadedSources = Collections.emptyMap();
             savedMeltdowns = Collections.emptyMap();
         }
 
         @Override
         public void load(@NotNull CompoundTag nbtTags, @NotNull HolderLookup.Provider provider) {
-            if (nbtTags.contains(SerializationConstants.RADIATION_LIST, Tag.TAG_LIST)) {
+            if (nbtTags.contains(SerializationConstants.RADIATION_SOURCES, Tag.TAG_COMPOUND)) {
+                CompoundTag sourcesNBT = nbtTags.getCompound(SerializationConstants.RADIATION_SOURCES);
+                loadedSources = new HashMap<>(sourcesNBT.size());
+                for (String dim : sourcesNBT.getAllKeys()) {
+                    ResourceLocation dimension = ResourceLocation.tryParse(dim);
+                    if (dimension != null) {
+                        //It should be a valid dimension, but validate it just in case
+                        RadiationSourceStore store = RadiationSourceStore.read(sourcesNBT.getCompound(dim));
+                        if (!store.isEmpty()) {
+                            loadedSources.put(ResourceKey.create(Registries.DIMENSION, dimension), store);
+                        }
+                    }
+                }
+            } else if (nbtTags.contains(SerializationConstants.RADIATION_LIST, Tag.TAG_LIST)) {
+                //Legacy format from before sources were saved in columns, with a compound per source
                 ListTag list = nbtTags.getList(SerializationConstants.RADIATION_LIST, Tag.TAG_COMPOUND);
-                loadedSources = new HashList<>();
+                loadedSources = new HashMap<>();
                 RegistryOps<Tag> registryOps = provider.createSerializationContext(NbtOps.INSTANCE);
-                for (Tag nbt : list) {
-                    RadiationSource.load(registryOps, (CompoundTag) nbt).ifPresent(loadedSources::add);
+                for (int i = 0, size = list.size(); i < size; i++) {
+                    CompoundTag sourceNBT = list.getCompound(i);
+                    Optional<GlobalPos> pos = GlobalPos.CODEC.parse(registryOps, sourceNBT).result();
+                    if (pos.isPresent()) {
+                        loadedSources.computeIfAbsent(pos.get().dimension(), dimension -> new RadiationSourceStore())
+                              .radiate(pos.get().pos().asLong(), sourceNBT.getDouble(SerializationConstants.RADIATION));
+                    }
                 }
             } else {
-                loadedSources = Collections.emptySet();
+                loadedSources = Collections.emptyMap();
             }
             if (nbtTags.contains(SerializationConstants.MELTDOWNS, Tag.TAG_COMPOUND)) {
                 CompoundTag meltdownNBT = nbtTags.getCompound(SerializationConstants.MELTDOWNS);
@@ -705,13 +855,12 @@ public class RadiationManager implements IRadiationManager {
         @NotNull
         @Override
         public CompoundTag save(@NotNull CompoundTag nbtTags, @NotNull HolderLookup.Provider provider) {
-            if (manager != null && !manager.radiationTable.isEmpty()) {
-                RegistryOps<Tag> registryOps = provider.createSerializationContext(NbtOps.INSTANCE);
-                ListTag list = new ListTag();
-                for (RadiationSource source : manager.radiationTable.values()) {
-                    list.add(source.write(registryOps));
+            if (manager != null && !manager.sourceStores.isEmpty()) {
+                CompoundTag sourcesNBT = new CompoundTag();
+                for (Map.Entry<ResourceKey<Level>, RadiationSourceStore> entry : manager.sourceStores.entrySet()) {
+                    sourcesNBT.put(entry.getKey().location().toString(), entry.getValue().write());
                 }
-                nbtTags.put(SerializationConstants.RADIATION_LIST, list);
+                nbtTags.put(SerializationConstants.RADIATION_SOURCES, sourcesNBT);
             }
             if (manager != null && !manager.meltdowns.isEmpty()) {
                 CompoundTag meltdownNBT = new CompoundTag();
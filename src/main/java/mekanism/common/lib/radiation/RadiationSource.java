@@ -1,25 +1,21 @@
 package mekanism.common.lib.radiation;
 
-import java.util.Objects;
-import java.util.Optional;
-import mekanism.api.SerializationConstants;
 import mekanism.api.radiation.IRadiationSource;
-import mekanism.common.config.MekanismConfig;
 import net.minecraft.core.GlobalPos;
-import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.Tag;
-import net.minecraft.resources.RegistryOps;
 import org.jetbrains.annotations.NotNull;
 
+/**
+ * View of a radiation source that is stored in the {@link RadiationManager}'s packed storage. Reads and writes go straight through to the manager, so this stays up to
+ * date with the actual source until it gets removed.
+ */
 public class RadiationSource implements IRadiationSource {
 
+    private final RadiationManager manager;
     private final GlobalPos pos;
-    /** In Sv/h */
-    private double magnitude;
 
-    public RadiationSource(GlobalPos pos, double magnitude) {
+    RadiationSource(RadiationManager manager, GlobalPos pos) {
+        this.manager = manager;
         this.pos = pos;
-        this.magnitude = magnitude;
     }
 
     @NotNull
@@ -30,34 +26,17 @@ public class RadiationSource implements IRadiationSource {
 
     @Override
     public double getMagnitude() {
-        return magnitude;
+        return manager.getSourceMagnitude(pos);
     }
 
     @Override
     public void radiate(double magnitude) {
-        this.magnitude += magnitude;
+        manager.radiate(pos, magnitude);
     }
 
     @Override
     public boolean decay() {
-        magnitude *= MekanismConfig.general.radiationSourceDecayRate.get();
-        return magnitude < RadiationManager.MIN_MAGNITUDE;
-    }
-
-    public static Optional<RadiationSource> load(RegistryOps<Tag> registryOps, CompoundTag tag) {
-        Optional<GlobalPos> result = GlobalPos.CODEC.parse(registryOps, tag).result();
-        //noinspection OptionalIsPresent - Capturing lambda
-        if (result.isPresent()) {
-            return Optional.of(new RadiationSource(result.get(), tag.getDouble(SerializationConstants.RADIATION)));
-        }
-        return Optional.empty();
-    }
-
-    public CompoundTag write(RegistryOps<Tag> registryOps) {
-        CompoundTag tag = (CompoundTag) GlobalPos.CODEC.encodeStart(registryOps, pos).result()
-              .orElseGet(CompoundTag::new);
-        tag.putDouble(SerializationConstants.RADIATION, magnitude);
-        return tag;
+        return manager.decaySource(pos);
     }
 
     @Override
@@ -68,11 +47,11 @@ public class RadiationSource implements IRadiationSource {
             return false;
         }
         RadiationSource other = (RadiationSource) o;
-        return magnitude == other.magnitude && pos.equals(other.pos);
+        return manager == other.manager && pos.equals(other.pos);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(pos, magnitude);
+        return pos.hashCode();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,124 @@
+package mekanism.common.lib.radiation;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+
+/**
+ * Spatial index of the radiation sources in a single dimension, grouped by the chunk column they are in. This allows exposure queries to find the sources near a
+ * position without allocating any chunk keys, and to only visit the occupied chunks when there are fewer of them than chunks in the area being checked.
+ *
+ * @implNote Stores indices into the {@link RadiationSourceStore} it was built from, so must be discarded whenever sources are added to or removed from the store.
+ */
+class RadiationSourceGrid {
+
+    private final RadiationSourceStore store;
+    private final Long2ObjectMap<int[]> sourcesByChunk;
+    //Parallel arrays of the occupied chunks for when iterating them is cheaper than checking every chunk in range
+    private final int[] chunkX;
+    private final int[] chunkZ;
+    private final int[][] chunkSources;
+
+    RadiationSourceGrid(RadiationSourceStore store) {
+        this.store = store;
+        Long2ObjectMap<IntArrayList> grouped = new Long2ObjectOpenHashMap<>();
+        for (int i = 0, size = store.size(); i < size; i++) {
+            long pos = store.getPos(i);
+            long chunk = ChunkPos.asLong(SectionPos.blockToSectionCoord(BlockPos.getX(pos)), SectionPos.blockToSectionCoord(BlockPos.getZ(pos)));
+            IntArrayList inChunk = grouped.get(chunk);
+            if (inChunk == null) {
+                inChunk = new IntArrayList();
+                grouped.put(chunk, inChunk);
+            }
+            inChunk.add(i);
+        }
+        int chunks = grouped.size();
+        sourcesByChunk = new Long2ObjectOpenHashMap<>(chunks);
+        chunkX = new int[chunks];
+        chunkZ = new int[chunks];
+        chunkSources = new int[chunks][];
+        int index = 0;
+        for (Long2ObjectMap.Entry<IntArrayList> entry : grouped.long2ObjectEntrySet()) {
+            long chunk = entry.getLongKey();
+            int[] inChunk = entry.getValue().toIntArray();
+            sourcesByChunk.put(chunk, inChunk);
+            chunkX[index] = ChunkPos.getX(chunk);
+            chunkZ[index] = ChunkPos.getZ(chunk);
+            chunkSources[index] = inChunk;
+            index++;
+        }
+    }
+
+    /**
+     * Accumulates the exposure from all sources within the given range of the target position.
+     *
+     * @param target      Position to calculate the exposure at.
+     * @param chunkRadius Radius in chunks around the target to check.
+     * @param maxRangeSqr Squared max distance a source can be from the target to be counted.
+     * @param exposure    Exposure to add the exposure and magnitudes of sources in range to.
+     */
+    void accumulateExposure(BlockPos target, int chunkRadius, double maxRangeSqr, Exposure exposure) {
+        int centerX = target.getX() >> 4;
+        int centerZ = target.getZ() >> 4;
+        int minX = centerX - chunkRadius;
+        int maxX = centerX + chunkRadius;
+        int minZ = centerZ - chunkRadius;
+        int maxZ = centerZ + chunkRadius;
+        long chunksInRange = (long) (maxX - minX + 1) * (maxZ - minZ + 1);
+        if (chunkX.length < chunksInRange) {
+            //Fewer chunks have sources than there are chunks in range, just check which of the occupied ones are in range
+            for (int i = 0; i < chunkX.length; i++) {
+                int x = chunkX[i];
+                int z = chunkZ[i];
+                if (x >= minX && x <= maxX && z >= minZ && z <= maxZ) {
+                    accumulate(chunkSources[i], target, maxRangeSqr, exposure);
+                }
+            }
+        } else {
+            for (int x = minX; x <= maxX; x++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    int[] sources = sourcesByChunk.get(ChunkPos.asLong(x, z));
+                    if (sources != null) {
+                        accumulate(sources, target, maxRangeSqr, exposure);
+                    }
+                }
+            }
+        }
+    }
+
+    private void accumulate(int[] sources, BlockPos target, double maxRangeSqr, Exposure exposure) {
+        int targetX = target.getX();
+        int targetY = target.getY();
+        int targetZ = target.getZ();
+        for (int index : sources) {
+            long pos = store.getPos(index);
+            double dx = BlockPos.getX(pos) - targetX;
+            double dy = BlockPos.getY(pos) - targetY;
+            double dz = BlockPos.getZ(pos) - targetZ;
+            double distSqr = dx * dx + dy * dy + dz * dz;
+            if (distSqr <= maxRangeSqr) {
+                double magnitude = store.getMagnitude(index);
+                exposure.level += magnitude / Math.max(1, distSqr);
+                exposure.maxMagnitude = Math.max(exposure.maxMagnitude, magnitude);
+            }
+        }
+    }
+
+    /**
+     * Mutable holder for the result of an exposure query, so that queries don't have to allocate anything.
+     */
+    static class Exposure {
+
+        double level;
+        double maxMagnitude;
+
+        Exposure reset() {
+            level = RadiationManager.BASELINE;
+            maxMagnitude = RadiationManager.BASELINE;
+            return this;
+        }
+    }
+}
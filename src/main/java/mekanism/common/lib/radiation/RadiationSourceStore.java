@@ -0,0 +1,207 @@
+package mekanism.common.lib.radiation;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import java.util.Arrays;
+import mekanism.api.SerializationConstants;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.nbt.CompoundTag;
+
+/**
+ * Packed storage of the radiation sources in a single dimension. Positions and magnitudes are kept in parallel primitive arrays so that decaying all the sources is a
+ * single pass over a double array, and so that they can be saved as two long array columns instead of a compound per source.
+ */
+class RadiationSourceStore {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Long2IntMap indexByPos;
+    private long[] positions;
+    private double[] magnitudes;
+    private int size;
+
+    RadiationSourceStore() {
+        this(INITIAL_CAPACITY);
+    }
+
+    private RadiationSourceStore(int capacity) {
+        capacity = Math.max(capacity, 1);
+        indexByPos = new Long2IntOpenHashMap(capacity);
+        indexByPos.defaultReturnValue(-1);
+        positions = new long[capacity];
+        magnitudes = new double[capacity];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @apiNote Index must be less than {@link #size()}.
+     */
+    long getPos(int index) {
+        return positions[index];
+    }
+
+    /**
+     * @apiNote Index must be less than {@link #size()}.
+     */
+    double getMagnitude(int index) {
+        return magnitudes[index];
+    }
+
+    boolean contains(long pos) {
+        return indexByPos.containsKey(pos);
+    }
+
+    /**
+     * @return The magnitude of the source at the given position, or zero if there is no source there.
+     */
+    double getMagnitudeAt(long pos) {
+        int index = indexByPos.get(pos);
+        return index == -1 ? 0 : magnitudes[index];
+    }
+
+    /**
+     * Adds the given magnitude to the source at the given position, creating the source if it doesn't exist yet.
+     *
+     * @return {@code true} if a new source was created.
+     */
+    boolean radiate(long pos, double magnitude) {
+        int index = indexByPos.get(pos);
+        if (index != -1) {
+            magnitudes[index] += magnitude;
+            return false;
+        }
+        if (size == positions.length) {
+            int capacity = positions.length * 2;
+            positions = Arrays.copyOf(positions, capacity);
+            magnitudes = Arrays.copyOf(magnitudes, capacity);
+        }
+        positions[size] = pos;
+        magnitudes[size] = magnitude;
+        indexByPos.put(pos, size);
+        size++;
+        return true;
+    }
+
+    /**
+     * Multiplies the magnitude of the source at the given position by the given rate, removing it if it drops below {@link RadiationManager#MIN_MAGNITUDE}.
+     *
+     * @return {@code true} if the source was removed.
+     */
+    boolean decay(long pos, double rate) {
+        int index = indexByPos.get(pos);
+        if (index == -1) {
+            return false;
+        }
+        magnitudes[index] *= rate;
+        if (magnitudes[index] < RadiationManager.MIN_MAGNITUDE) {
+            indexByPos.remove(pos);
+            removeAt(index);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Decays all sources by the given rate, compacting away any that drop below {@link RadiationManager#MIN_MAGNITUDE}.
+     *
+     * @return {@code true} if any sources were removed.
+     */
+    boolean decayAll(double rate) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            double magnitude = magnitudes[i] * rate;
+            if (magnitude >= RadiationManager.MIN_MAGNITUDE) {
+                positions[kept] = positions[i];
+                magnitudes[kept] = magnitude;
+                kept++;
+            }
+        }
+        if (kept == size) {
+            return false;
+        }
+        size = kept;
+        //Indices shifted, so just rebuild the lookup instead of trying to patch it
+        indexByPos.clear();
+        for (int i = 0; i < size; i++) {
+            indexByPos.put(positions[i], i);
+        }
+        return true;
+    }
+
+    /**
+     * @return {@code true} if there was a source at the given position.
+     */
+    boolean remove(long pos) {
+        int index = indexByPos.remove(pos);
+        if (index == -1) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * @return {@code true} if there were any sources in the given chunk.
+     */
+    boolean removeChunk(int chunkX, int chunkZ) {
+        boolean removed = false;
+        //Iterate backwards so that the source that gets swapped into a removed slot has already been checked
+        for (int i = size - 1; i >= 0; i--) {
+            long pos = positions[i];
+            if (SectionPos.blockToSectionCoord(BlockPos.getX(pos)) == chunkX && SectionPos.blockToSectionCoord(BlockPos.getZ(pos)) == chunkZ) {
+                indexByPos.remove(pos);
+                removeAt(i);
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Removes the entry at the given index by moving the last entry into its place.
+     *
+     * @implNote Does not remove the entry from {@link #indexByPos}.
+     */
+    private void removeAt(int index) {
+        int last = --size;
+        if (index != last) {
+            positions[index] = positions[last];
+            magnitudes[index] = magnitudes[last];
+            indexByPos.put(positions[index], index);
+        }
+    }
+
+    CompoundTag write() {
+        long[] magnitudeBits = new long[size];
+        for (int i = 0; i < size; i++) {
+            magnitudeBits[i] = Double.doubleToRawLongBits(magnitudes[i]);
+        }
+        CompoundTag tag = new CompoundTag();
+        tag.putLongArray(SerializationConstants.POSITIONS, Arrays.copyOf(positions, size));
+        tag.putLongArray(SerializationConstants.MAGNITUDES, magnitudeBits);
+        return tag;
+    }
+
+    static RadiationSourceStore read(CompoundTag tag) {
+        long[] positions = tag.getLongArray(SerializationConstants.POSITIONS);
+        long[] magnitudeBits = tag.getLongArray(SerializationConstants.MAGNITUDES);
+        int count = Math.min(positions.length, magnitudeBits.length);
+        RadiationSourceStore store = new RadiationSourceStore(count);
+        for (int i = 0; i < count; i++) {
+            double magnitude = Double.longBitsToDouble(magnitudeBits[i]);
+            //Validate the magnitude just in case the data got corrupted
+            if (magnitude >= RadiationManager.MIN_MAGNITUDE && Double.isFinite(magnitude)) {
+                store.radiate(positions[i], magnitude);
+            }
+        }
+        return store;
+    }
+}
@@ -4,6 +4,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import mekanism.api.chemical.gas.Gas;
 import mekanism.api.chemical.gas.GasStack;
@@ -64,7 +66,9 @@ import mekanism.common.recipe.lookup.cache.InputRecipeCache.SingleItem;
 import mekanism.common.recipe.lookup.cache.RotaryInputRecipeCache;
 import mekanism.common.registration.impl.RecipeTypeDeferredRegister;
 import mekanism.common.registration.impl.RecipeTypeRegistryObject;
+import net.minecraft.Util;
 import net.minecraft.core.Holder;
+import net.minecraft.core.HolderLookup;
 import net.minecraft.core.NonNullList;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.ItemStack;
@@ -156,6 +160,26 @@ public class MekanismRecipeType<VANILLA_INPUT extends RecipeInput, RECIPE extend
         }
     }
 
+    /**
+     * Builds the input caches of all our recipe types in parallel, so that the first machine to look up a recipe after a reload doesn't have to wait for the cache to be
+     * built.
+     *
+     * @param recipeManager Recipe manager to get the recipes from.
+     * @param registries    Registries the recipes were loaded with.
+     */
+    public static void buildCaches(RecipeManager recipeManager, HolderLookup.Provider registries) {
+        long start = System.nanoTime();
+        List<CompletableFuture<Void>> builds = new ArrayList<>();
+        for (Holder<RecipeType<?>> entry : RECIPE_TYPES.getEntries()) {
+            //Note: We expect all entries to be a MekanismRecipeType, but we validate it just to be sure
+            if (entry.value() instanceof MekanismRecipeType<?, ?, ?> recipeType) {
+                builds.add(CompletableFuture.runAsync(() -> recipeType.buildCache(recipeManager, registries), Util.backgroundExecutor()));
+            }
+        }
+        CompletableFuture.allOf(builds.toArray(CompletableFuture[]::new)).join();
+        Mekanism.logger.info("Built recipe caches for {} recipe types in {} ms", builds.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
     private List<RecipeHolder<RECIPE>> cachedRecipes = Collections.emptyList();
     private final ResourceLocation registryName;
     private final INPUT_CACHE inputCache;
@@ -181,8 +205,25 @@ public class MekanismRecipeType<VANILLA_INPUT extends RecipeInput, RECIPE extend
     }
 
     private void clearCaches() {
-        cachedRecipes = Collections.emptyList();
-        inputCache.clear();
+        //Note: We synchronize on the input cache as that is what builds of the cache lock on, so that a clear can't happen part way through building the cache,
+        // and lookups that start while we are clearing wait for the clear to finish before rebuilding the cache
+        synchronized (inputCache) {
+            cachedRecipes = Collections.emptyList();
+            inputCache.clear();
+        }
+    }
+
+    private void buildCache(RecipeManager recipeManager, HolderLookup.Provider registries) {
+        long start = System.nanoTime();
+        try {
+            inputCache.build(recipeManager, registries);
+        } catch (Exception e) {
+            //Clear anything that did get built so that the cache can be built properly when it is first used
+            Mekanism.logger.error("Failed to build input cache for recipe type {}", this, e);
+            clearCaches();
+            return;
+        }
+        Mekanism.logger.debug("Built input cache for recipe type {} in {} ms", this, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
     }
 
     @Override
@@ -218,41 +259,66 @@ public class MekanismRecipeType<VANILLA_INPUT extends RecipeInput, RECIPE extend
     @Override
     public List<RecipeHolder<RECIPE>> getRecipes(RecipeManager recipeManager, @Nullable Level world) {
         if (cachedRecipes.isEmpty()) {
-            //Note: This is a fresh immutable list that gets returned
-            List<RecipeHolder<RECIPE>> recipes = recipeManager.getAllRecipesFor(this);
             if (this == SMELTING.get()) {
                 world = getLevel(world);
                 if (world == null) {
                     //If we failed, then only return the recipes that are for the base type
-                    return recipes.stream()
+                    return recipeManager.getAllRecipesFor(this).stream()
                           .filter(recipe -> !recipe.value().isIncomplete())
                           .toList();
                 }
-                //Ensure the recipes can be modified
-                recipes = new ArrayList<>(recipes);
-                for (RecipeHolder<SmeltingRecipe> smeltingRecipe : recipeManager.getAllRecipesFor(RecipeType.SMELTING)) {
-                    ItemStack recipeOutput = smeltingRecipe.value().getResultItem(world.registryAccess());
-                    if (!smeltingRecipe.value().isSpecial() && !smeltingRecipe.value().isIncomplete() && !recipeOutput.isEmpty()) {
-                        //TODO: Can Smelting recipes even be "special", if so can we add some sort of checker to make getOutput return the correct result
-                        NonNullList<Ingredient> ingredients = smeltingRecipe.value().getIngredients();
-                        if (ingredients.isEmpty()) {
-                            //Something went wrong
-                            continue;
-                        }
-                        ItemStackIngredient input = IngredientCreatorAccess.item().from(CompoundIngredient.of(ingredients.toArray(Ingredient[]::new)));
-                        recipes.add(new RecipeHolder<>(RecipeViewerUtils.synthetic(smeltingRecipe.id(), "mekanism_generated"),
-                              castRecipe(new BasicSmeltingRecipe(input, recipeOutput))));
+                cachedRecipes = collectRecipes(recipeManager, world.registryAccess());
+            } else {
+                cachedRecipes = collectRecipes(recipeManager, null);
+            }
+        }
+        return cachedRecipes;
+    }
+
+    /**
+     * Gets the recipes of this type from the given recipe manager, for use when there may not be a level to look up the registries from.
+     *
+     * @param recipeManager Recipe manager to get the recipes from.
+     * @param registries    Registries the recipes were loaded with.
+     */
+    @NotNull
+    public List<RecipeHolder<RECIPE>> getRecipes(RecipeManager recipeManager, HolderLookup.Provider registries) {
+        if (cachedRecipes.isEmpty()) {
+            cachedRecipes = collectRecipes(recipeManager, registries);
+        }
+        return cachedRecipes;
+    }
+
+    /**
+     * @param registries Registries used to look up the outputs of smelting recipes, may only be {@code null} if this is not the smelting recipe type.
+     */
+    private List<RecipeHolder<RECIPE>> collectRecipes(RecipeManager recipeManager, @Nullable HolderLookup.Provider registries) {
+        //Note: This is a fresh immutable list that gets returned
+        List<RecipeHolder<RECIPE>> recipes = recipeManager.getAllRecipesFor(this);
+        if (this == SMELTING.get() && registries != null) {
+            //Ensure the recipes can be modified
+            recipes = new ArrayList<>(recipes);
+            for (RecipeHolder<SmeltingRecipe> smeltingRecipe : recipeManager.getAllRecipesFor(RecipeType.SMELTING)) {
+                ItemStack recipeOutput = smeltingRecipe.value().getResultItem(registries);
+                if (!smeltingRecipe.value().isSpecial() && !smeltingRecipe.value().isIncomplete() && !recipeOutput.isEmpty()) {
+                    //TODO: Can Smelting recipes even be "special", if so can we add some sort of checker to make getOutput return the correct result
+                    NonNullList<Ingredient> ingredients = smeltingRecipe.value().getIngredients();
+                    if (ingredients.isEmpty()) {
+                        //Something went wrong
+                        continue;
                     }
+                    ItemStackIngredient input = IngredientCreatorAccess.item().from(CompoundIngredient.of(ingredients.toArray(Ingredient[]::new)));
+                    recipes.add(new RecipeHolder<>(RecipeViewerUtils.synthetic(smeltingRecipe.id(), "mekanism_generated"),
+                          castRecipe(new BasicSmeltingRecipe(input, recipeOutput))));
                 }
             }
-            //Make the list of cached recipes immutable and filter out any incomplete recipes
-            // as there is no reason to potentially look the partial complete piece up if
-            // the other portion of the recipe is incomplete
-            cachedRecipes = recipes.stream()
-                  .filter(recipe -> !recipe.value().isIncomplete())
-                  .toList();
         }
-        return cachedRecipes;
+        //Make the list of cached recipes immutable and filter out any incomplete recipes
+        // as there is no reason to potentially look the partial complete piece up if
+        // the other portion of the recipe is incomplete
+        return recipes.stream()
+              .filter(recipe -> !recipe.value().isIncomplete())
+              .toList();
     }
 
     @SuppressWarnings("unchecked")
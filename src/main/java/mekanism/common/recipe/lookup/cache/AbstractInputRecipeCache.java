@@ -3,11 +3,15 @@ package mekanism.common.recipe.lookup.cache;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import mekanism.api.recipes.MekanismRecipe;
 import mekanism.api.recipes.ingredients.InputIngredient;
+import mekanism.common.Mekanism;
 import mekanism.common.recipe.MekanismRecipeType;
 import mekanism.common.recipe.lookup.cache.type.IInputCache;
+import net.minecraft.core.HolderLookup;
 import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.level.Level;
 import org.jetbrains.annotations.Nullable;
 
@@ -17,7 +21,8 @@ import org.jetbrains.annotations.Nullable;
 public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe<?>> implements IInputRecipeCache {
 
     protected final MekanismRecipeType<?, RECIPE, ?> recipeType;
-    protected boolean initialized;
+    protected final LookupStats stats = new LookupStats();
+    protected volatile boolean initialized;
 
     protected AbstractInputRecipeCache(MekanismRecipeType<?, RECIPE, ?> recipeType) {
         this.recipeType = recipeType;
@@ -27,6 +32,36 @@ public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe<?>>
     public void clear() {
         //Mark the cache as no longer being initialized
         initialized = false;
+        if (stats.hasLookups()) {
+            Mekanism.logger.debug("Input lookups for recipe type {} since last reload: {}", recipeType, stats);
+            stats.reset();
+        }
+    }
+
+    /**
+     * Gets the statistics about the lookups that have been performed since this cache was last cleared.
+     */
+    public LookupStats getLookupStats() {
+        return stats;
+    }
+
+    @Override
+    public void build(RecipeManager recipeManager, HolderLookup.Provider registries) {
+        initCacheIfNeeded(() -> recipeType.getRecipes(recipeManager, registries));
+    }
+
+    /**
+     * Replaces the contents of this cache with a cache built from the given recipes instead of from the recipes that are loaded for the recipe type.
+     *
+     * @param recipes Recipes to build the cache for.
+     *
+     * @apiNote This is meant for building separate cache instances for synthetic recipe sets, such as when benchmarking the caches, and should not be called on the
+     * caches that belong to the recipe types.
+     */
+    public synchronized void buildFrom(List<RecipeHolder<RECIPE>> recipes) {
+        clear();
+        initCache(recipes);
+        initialized = true;
     }
 
     /**
@@ -34,8 +69,24 @@ public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe<?>>
      */
     protected void initCacheIfNeeded(@Nullable Level world) {
         if (!initialized) {
-            initialized = true;
-            initCache(recipeType.getRecipes(world));
+            initCacheIfNeeded(() -> recipeType.getRecipes(world));
+        }
+    }
+
+    /**
+     * Initializes the cache if it hasn't already been initialized.
+     *
+     * @implNote The cache is only marked as initialized once it has been fully built, so that lookups on other threads never see a partially built cache and instead wait
+     * for it to finish being built.
+     */
+    private void initCacheIfNeeded(Supplier<List<RecipeHolder<RECIPE>>> recipes) {
+        if (!initialized) {
+            synchronized (this) {
+                if (!initialized) {
+                    initCache(recipes.get());
+                    initialized = true;
+                }
+            }
         }
     }
 
@@ -57,13 +108,24 @@ public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe<?>>
         }
         initCacheIfNeeded(world);
         if (cache.contains(input)) {
+            stats.onHit();
             return true;
+        } else if (cache.isKnownMissing(input)) {
+            stats.onCachedMiss();
+            return false;
         }
-        for (RECIPE recipe : complexRecipes) {
-            if (inputExtractor.apply(recipe).testType(input)) {
-                return true;
+        if (!complexRecipes.isEmpty()) {
+            stats.onComplexScan();
+            for (RECIPE recipe : complexRecipes) {
+                if (inputExtractor.apply(recipe).testType(input)) {
+                    stats.onHit();
+                    return true;
+                }
             }
         }
+        //Nothing matches the type of the input, remember that so that we can skip checking the complex recipes next time
+        cache.markMissing(input);
+        stats.onMiss();
         return false;
     }
 
@@ -101,4 +163,81 @@ public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe<?>>
         }
         return false;
     }
-}
\ No newline at end of file
+
+    /**
+     * Counters for how lookups in an input recipe cache were resolved, used to help debug how effective the caches are.
+     *
+     * @implNote These are not synchronized as they are only used for debugging, so it doesn't matter if a lookup on the client and server at the same time causes one to
+     * be lost.
+     */
+    public static final class LookupStats {
+
+        /**
+         * Number of lookups that found a matching recipe.
+         */
+        private long hits;
+        /**
+         * Number of lookups that didn't find a matching recipe and had to check every recipe to find that out.
+         */
+        private long misses;
+        /**
+         * Number of lookups that didn't find a matching recipe because the input was already known to not match anything.
+         */
+        private long cachedMisses;
+        /**
+         * Number of lookups that had to fall back to checking the complex recipes.
+         */
+        private long complexScans;
+
+        private LookupStats() {
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getCachedMisses() {
+            return cachedMisses;
+        }
+
+        public long getComplexScans() {
+            return complexScans;
+        }
+
+        void onHit() {
+            hits++;
+        }
+
+        void onMiss() {
+            misses++;
+        }
+
+        void onCachedMiss() {
+            cachedMisses++;
+        }
+
+        void onComplexScan() {
+            complexScans++;
+        }
+
+        private boolean hasLookups() {
+            return hits > 0 || misses > 0 || cachedMisses > 0;
+        }
+
+        private void reset() {
+            hits = 0;
+            misses = 0;
+            cachedMisses = 0;
+            complexScans = 0;
+        }
+
+        @Override
+        public String toString() {
+            return hits + " hits, " + misses + " misses, " + cachedMisses + " cached misses, " + complexScans + " complex scans";
+        }
+    }
+}
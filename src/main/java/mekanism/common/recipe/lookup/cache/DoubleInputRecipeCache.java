@@ -143,6 +143,11 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
             return null;
         }
         initCacheIfNeeded(world);
+        if (cacheA.isKnownMissing(inputA) || cacheB.isKnownMissing(inputB)) {
+            //If nothing matches the type of one of the inputs, then nothing can match all the inputs
+            stats.onCachedMiss();
+            return null;
+        }
         //Lookup a recipe from the specified input map
         RECIPE recipe;
         if (useCacheA) {
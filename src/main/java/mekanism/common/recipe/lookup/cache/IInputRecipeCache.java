@@ -1,9 +1,20 @@
 package mekanism.common.recipe.lookup.cache;
 
+import net.minecraft.core.HolderLookup;
+import net.minecraft.world.item.crafting.RecipeManager;
+
 public interface IInputRecipeCache {
 
     /**
      * Clears the input cache
      */
     void clear();
+
+    /**
+     * Builds the input cache ahead of time if it hasn't been built yet, so that the first lookup doesn't have to build it.
+     *
+     * @param recipeManager Recipe manager to get the recipes from.
+     * @param registries    Registries the recipes were loaded with.
+     */
+    void build(RecipeManager recipeManager, HolderLookup.Provider registries);
 }
\ No newline at end of file
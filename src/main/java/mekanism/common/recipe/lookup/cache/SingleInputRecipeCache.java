@@ -65,8 +65,22 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
             return null;
         }
         initCacheIfNeeded(world);
+        if (cache.isKnownMissing(input)) {
+            //If nothing matches the type of the input, then nothing can match the input
+            stats.onCachedMiss();
+            return null;
+        }
         RECIPE recipe = findFirstRecipe(input, cache.getRecipes(input));
-        return recipe == null ? findFirstRecipe(input, complexRecipes) : recipe;
+        if (recipe == null && !complexRecipes.isEmpty()) {
+            stats.onComplexScan();
+            recipe = findFirstRecipe(input, complexRecipes);
+        }
+        if (recipe == null) {
+            stats.onMiss();
+        } else {
+            stats.onHit();
+        }
+        return recipe;
     }
 
     @Nullable
@@ -95,14 +109,26 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
         }
         initCacheIfNeeded(world);
         RECIPE recipe = cache.findFirstRecipe(input, ConstantPredicates.alwaysTrue());
-        if (recipe == null) {
+        if (recipe != null) {
+            stats.onHit();
+            return recipe;
+        } else if (cache.isKnownMissing(input)) {
+            stats.onCachedMiss();
+            return null;
+        }
+        if (!complexRecipes.isEmpty()) {
+            stats.onComplexScan();
             for (RECIPE complexRecipe : complexRecipes) {
                 if (inputExtractor.apply(complexRecipe).testType(input)) {
+                    stats.onHit();
                     return complexRecipe;
                 }
             }
         }
-        return recipe;
+        //Nothing matches the type of the input, remember that so that we can skip checking the complex recipes next time
+        cache.markMissing(input);
+        stats.onMiss();
+        return null;
     }
 
     /**
@@ -121,6 +147,11 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
             return null;
         }
         initCacheIfNeeded(world);
+        if (cache.isKnownMissing(input)) {
+            //If nothing matches the type of the input, then nothing can match the extra criteria either
+            stats.onCachedMiss();
+            return null;
+        }
         for (RECIPE recipe : cache.getRecipes(input)) {
             if (matchCriteria.test(recipe, input, data)) {
                 return recipe;
@@ -150,6 +181,11 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
             return null;
         }
         initCacheIfNeeded(world);
+        if (cache.isKnownMissing(input)) {
+            //If nothing matches the type of the input, then nothing can match the extra criteria either
+            stats.onCachedMiss();
+            return null;
+        }
         for (RECIPE recipe : cache.getRecipes(input)) {
             if (matchCriteria.testType(recipe, input, data1, data2)) {
                 return recipe;
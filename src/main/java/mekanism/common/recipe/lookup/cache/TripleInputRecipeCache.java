@@ -220,6 +220,11 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
             return null;
         }
         initCacheIfNeeded(world);
+        if (cacheA.isKnownMissing(inputA) || cacheB.isKnownMissing(inputB) || cacheC.isKnownMissing(inputC)) {
+            //If nothing matches the type of one of the inputs, then nothing can match all the inputs
+            stats.onCachedMiss();
+            return null;
+        }
         //Lookup a recipe from the A input map (the fact that it is A is arbitrary, it just as well could be B or C)
         RECIPE recipe = findFirstRecipe(inputA, inputB, inputC, cacheA.getRecipes(inputA));
         // if there is no recipe, then check if any of our complex recipes (either a, b, or c being complex) match
@@ -17,15 +17,29 @@ import org.jetbrains.annotations.Nullable;
 public abstract class BaseInputCache<KEY, INPUT, INGREDIENT extends InputIngredient<INPUT>, RECIPE extends MekanismRecipe<?>>
       implements IInputCache<INPUT, INGREDIENT, RECIPE> {
 
+    /**
+     * Maximum number of inputs that don't match any recipes to keep track of.
+     */
+    protected static final int MAX_MISSING_INPUTS = 1_024;
+
     /**
      * Map of keys representing inputs to a set of the recipes that contain said input. This allows for quick contains checking by checking if a key exists, as well as
      * quicker recipe lookup.
      */
     private final Map<KEY, Set<RECIPE>> inputCache = new HashMap<>();
+    /**
+     * Set of keys representing inputs that don't match any recipes.
+     *
+     * @implNote Synchronized on as lookups can happen from both the client and server thread.
+     */
+    private final Set<KEY> missingInputs = new HashSet<>();
 
     @Override
     public void clear() {
         inputCache.clear();
+        synchronized (missingInputs) {
+            missingInputs.clear();
+        }
     }
 
     @Override
@@ -59,6 +73,32 @@ public abstract class BaseInputCache<KEY, INPUT, INGREDIENT extends InputIngredi
         return inputCache.getOrDefault(createKey(input), Collections.emptySet());
     }
 
+    @Override
+    public boolean isKnownMissing(INPUT input) {
+        synchronized (missingInputs) {
+            return !missingInputs.isEmpty() && missingInputs.contains(createKey(input));
+        }
+    }
+
+    @Override
+    public void markMissing(INPUT input) {
+        synchronized (missingInputs) {
+            addMissing(missingInputs, createKey(input));
+        }
+    }
+
+    /**
+     * Adds the given key to a set of missing inputs, forgetting all the previously known missing inputs if the set is full.
+     */
+    protected static <T> void addMissing(Set<T> missingInputs, T key) {
+        if (missingInputs.size() >= MAX_MISSING_INPUTS) {
+            //Note: We just start over rather than tracking which inputs were used least recently, as in general there shouldn't be many
+            // different inputs that don't match anything
+            missingInputs.clear();
+        }
+        missingInputs.add(key);
+    }
+
     /**
      * Creates a key for the given input for use in querying our input cache.
      *
@@ -3,11 +3,16 @@ package mekanism.common.recipe.lookup.cache.type;
 import com.google.common.collect.Iterables;
 import it.unimi.dsi.fastutil.Hash;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenCustomHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenCustomHashSet;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 import mekanism.api.recipes.MekanismRecipe;
 import mekanism.api.recipes.ingredients.InputIngredient;
 
@@ -18,20 +23,62 @@ import mekanism.api.recipes.ingredients.InputIngredient;
 public abstract class ComponentSensitiveInputCache<KEY, INPUT, INGREDIENT extends InputIngredient<INPUT>, RECIPE extends MekanismRecipe<?>>
       extends BaseInputCache<KEY, INPUT, INGREDIENT, RECIPE> {
 
+    /**
+     * Maximum number of keys a single ingredient can be indexed under in the partial match cache before it is treated as a complex ingredient instead.
+     */
+    protected static final int MAX_PARTIAL_MATCH_KEYS = 1_024;
+
     /**
      * Map of NBT based keys representing inputs to a set of the recipes that contain said input. This allows for quick contains checking by checking if a key exists, as
      * well as quicker recipe lookup.
      */
     private final Map<INPUT, Set<RECIPE>> componentInputCache;
+    /**
+     * Map of keys representing inputs to the recipes that contain said input, but only when the input also has at least some specific Data Components. Unlike
+     * {@link #componentInputCache}, the recipes in here have to be tested against the input to see if it actually matches, but they only have to be tested when the
+     * input is of a type that may match, rather than every time any input is looked up.
+     */
+    private final Map<KEY, List<PartialMatch<INPUT, RECIPE>>> partialComponentInputCache = new HashMap<>();
+    /**
+     * Set of inputs including their Data Components that don't match any recipes.
+     *
+     * @implNote Synchronized on as lookups can happen from both the client and server thread.
+     */
+    private final Set<INPUT> missingComponentInputs;
 
     protected ComponentSensitiveInputCache(Hash.Strategy<? super INPUT> componentHashStrategy) {
         this.componentInputCache = new Object2ObjectOpenCustomHashMap<>(componentHashStrategy);
+        this.missingComponentInputs = new ObjectOpenCustomHashSet<>(componentHashStrategy);
     }
 
     @Override
     public void clear() {
         super.clear();
         componentInputCache.clear();
+        partialComponentInputCache.clear();
+        synchronized (missingComponentInputs) {
+            missingComponentInputs.clear();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Tracks the inputs including their Data Components, as a recipe may match the same base type but only with specific components.
+     */
+    @Override
+    public boolean isKnownMissing(INPUT input) {
+        synchronized (missingComponentInputs) {
+            //Note: Lookups can use the raw input, as the hash strategy only uses the type and components
+            return !missingComponentInputs.isEmpty() && missingComponentInputs.contains(input);
+        }
+    }
+
+    @Override
+    public void markMissing(INPUT input) {
+        synchronized (missingComponentInputs) {
+            addMissing(missingComponentInputs, copyAsKey(input));
+        }
     }
 
     /**
@@ -41,7 +88,16 @@ public abstract class ComponentSensitiveInputCache<KEY, INPUT, INGREDIENT extend
      */
     @Override
     public boolean contains(INPUT input) {
-        return componentInputCache.containsKey(input) || super.contains(input);
+        if (componentInputCache.containsKey(input) || super.contains(input)) {
+            return true;
+        } else if (!partialComponentInputCache.isEmpty()) {
+            for (PartialMatch<INPUT, RECIPE> partialMatch : partialComponentInputCache.getOrDefault(createKey(input), Collections.emptyList())) {
+                if (partialMatch.matcher().test(input)) {
+                    return true;
+                }
+            }
+        }
+        return false;
     }
 
     /**
@@ -51,15 +107,29 @@ public abstract class ComponentSensitiveInputCache<KEY, INPUT, INGREDIENT extend
      */
     @Override
     public Iterable<RECIPE> getRecipes(INPUT input) {
+        Iterable<RECIPE> recipes;
         Set<RECIPE> nbtRecipes = componentInputCache.getOrDefault(input, Collections.emptySet());
         if (nbtRecipes.isEmpty()) {
-            return super.getRecipes(input);
+            recipes = super.getRecipes(input);
+        } else {
+            Collection<RECIPE> basicRecipes = (Collection<RECIPE>) super.getRecipes(input);
+            recipes = basicRecipes.isEmpty() ? nbtRecipes : Iterables.concat(nbtRecipes, basicRecipes);
         }
-        Collection<RECIPE> basicRecipes = (Collection<RECIPE>) super.getRecipes(input);
-        if (basicRecipes.isEmpty()) {
-            return nbtRecipes;
+        if (!partialComponentInputCache.isEmpty()) {
+            List<PartialMatch<INPUT, RECIPE>> partialMatches = partialComponentInputCache.get(createKey(input));
+            if (partialMatches != null) {
+                List<RECIPE> partialRecipes = new ArrayList<>();
+                for (PartialMatch<INPUT, RECIPE> partialMatch : partialMatches) {
+                    if (partialMatch.matcher().test(input)) {
+                        partialRecipes.add(partialMatch.recipe());
+                    }
+                }
+                if (!partialRecipes.isEmpty()) {
+                    return Iterables.concat(recipes, partialRecipes);
+                }
+            }
         }
-        return Iterables.concat(nbtRecipes, basicRecipes);
+        return recipes;
     }
 
     /**
@@ -71,4 +141,28 @@ public abstract class ComponentSensitiveInputCache<KEY, INPUT, INGREDIENT extend
     protected void addNbtInputCache(INPUT input, RECIPE recipe) {
         componentInputCache.computeIfAbsent(input, i -> new HashSet<>()).add(recipe);
     }
+
+    /**
+     * Adds a given recipe to the input cache for inputs that have to also be tested against a matcher, such as ones that need to have at least some specific Data
+     * Components.
+     *
+     * @param key     Key representing the type of the input.
+     * @param matcher Matcher to test inputs of the given type against.
+     * @param recipe  Recipe to add.
+     */
+    protected void addPartialInputCache(KEY key, Predicate<INPUT> matcher, RECIPE recipe) {
+        partialComponentInputCache.computeIfAbsent(key, k -> new ArrayList<>()).add(new PartialMatch<>(matcher, recipe));
+    }
+
+    /**
+     * Copies the given input so that it can be safely persisted as a key, ignoring the size of the input.
+     *
+     * @param input Input to copy.
+     *
+     * @return Copy of the input.
+     */
+    protected abstract INPUT copyAsKey(INPUT input);
+
+    private record PartialMatch<INPUT, RECIPE>(Predicate<INPUT> matcher, RECIPE recipe) {
+    }
 }
\ No newline at end of file
@@ -45,6 +45,19 @@ public class FluidInputCache<RECIPE extends MekanismRecipe<?>> extends Component
                 // so while we are at it, we just set the size to one, as we don't care about the size
                 addNbtInputCache(fluid.copyWithAmount(1), recipe);
             }
+        } else if (input instanceof DataComponentFluidIngredient) {
+            //Non-strict component ingredients match any of their fluids as long as the stack has at least the specified components,
+            // so rather than marking them as complex, we index them by fluid and only test the components of inputs that may match
+            FluidStack[] stacks = input.getStacks();
+            if (stacks.length > MAX_PARTIAL_MATCH_KEYS) {
+                //Unless the ingredient matches so many fluids that indexing it would take up more memory than testing it as needed
+                return true;
+            }
+            for (FluidStack fluid : stacks) {
+                if (!fluid.isEmpty()) {
+                    addPartialInputCache(fluid.getFluid(), input, recipe);
+                }
+            }
         } else {
             //Else it is a custom ingredient, so we don't have a great way of handling it using the normal extraction checks
             // and instead have to just mark it as complex and test as needed
@@ -58,6 +71,11 @@ public class FluidInputCache<RECIPE extends MekanismRecipe<?>> extends Component
         return stack.getFluid();
     }
 
+    @Override
+    protected FluidStack copyAsKey(FluidStack stack) {
+        return stack.copyWithAmount(1);
+    }
+
     @Override
     public boolean isEmpty(FluidStack input) {
         return input.isEmpty();
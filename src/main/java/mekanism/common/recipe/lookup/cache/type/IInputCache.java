@@ -64,6 +64,25 @@ public interface IInputCache<INPUT, INGREDIENT extends InputIngredient<INPUT>, R
      */
     boolean mapInputs(RECIPE recipe, INGREDIENT inputIngredient);
 
+    /**
+     * Checks if the given input has been marked by {@link #markMissing(Object)} as not matching any recipes.
+     *
+     * @param input Input to check.
+     *
+     * @return {@code true} if the input is known to not match any recipes, {@code false} if it might match one.
+     */
+    boolean isKnownMissing(INPUT input);
+
+    /**
+     * Marks that the given input type does not match any recipes, including any complex recipes that the {@link mekanism.common.recipe.lookup.cache.IInputRecipeCache}
+     * had to check separately. This allows repeated lookups of inputs that don't match anything to skip checking the complex recipes again.
+     *
+     * @param input Input to mark.
+     *
+     * @implNote Only a bounded number of inputs are tracked, and they are all forgotten when this cache is cleared.
+     */
+    void markMissing(INPUT input);
+
     /**
      * Clears this {@link IInputCache}
      */
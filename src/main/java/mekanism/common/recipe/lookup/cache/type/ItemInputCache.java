@@ -45,6 +45,19 @@ public class ItemInputCache<RECIPE extends MekanismRecipe<?>> extends ComponentS
                 // so while we are at it, we just set the size to one, as we don't care about the size
                 addNbtInputCache(item.copyWithCount(1), recipe);
             }
+        } else if (input.getCustomIngredient() instanceof DataComponentIngredient) {
+            //Non-strict component ingredients match any of their items as long as the stack has at least the specified components,
+            // so rather than marking them as complex, we index them by item and only test the components of inputs that may match
+            ItemStack[] stacks = input.getItems();
+            if (stacks.length > MAX_PARTIAL_MATCH_KEYS) {
+                //Unless the ingredient matches so many items that indexing it would take up more memory than testing it as needed
+                return true;
+            }
+            for (ItemStack item : stacks) {
+                if (!item.isEmpty()) {
+                    addPartialInputCache(item.getItem(), input, recipe);
+                }
+            }
         } else {
             //Else it is a custom ingredient, so we don't have a great way of handling it using the normal extraction checks
             // and instead have to just mark it as complex and test as needed
@@ -58,6 +71,11 @@ public class ItemInputCache<RECIPE extends MekanismRecipe<?>> extends ComponentS
         return stack.getItem();
     }
 
+    @Override
+    protected ItemStack copyAsKey(ItemStack stack) {
+        return stack.copyWithCount(1);
+    }
+
     @Override
     public boolean isEmpty(ItemStack input) {
         return input.isEmpty();
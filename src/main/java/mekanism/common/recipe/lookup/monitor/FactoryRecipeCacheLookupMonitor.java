@@ -16,10 +16,18 @@ public class FactoryRecipeCacheLookupMonitor<RECIPE extends MekanismRecipe<?>> e
     @Override
     public void onChange() {
         super.onChange();
-        //Mark that sorting is needed
+        //Mark that sorting is needed for our process
         setSortingNeeded.run();
     }
 
+    /**
+     * Called when the contents of any of the output slots for this monitor's process change, as that may change what items can be sorted into the process.
+     */
+    public void onOutputChanged() {
+        setSortingNeeded.run();
+        unpause();
+    }
+
     public void updateCachedRecipe(@NotNull RECIPE recipe) {
         cachedRecipe = createNewCachedRecipe(recipe, cacheIndex);
         //Note: While this is probably not strictly needed we clear our cache of knowing we have no recipe
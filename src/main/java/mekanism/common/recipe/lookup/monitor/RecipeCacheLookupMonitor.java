@@ -131,4 +131,11 @@ public class RecipeCacheLookupMonitor<RECIPE extends MekanismRecipe<?>> implemen
     public boolean hasNoRecipe(int cacheIndex) {
         return cachedIndexMatches(cacheIndex) ? hasNoRecipe : ICachedRecipeHolder.super.hasNoRecipe(cacheIndex);
     }
+
+    /**
+     * @return {@code true} if no recipe matches the current inputs, meaning there is nothing to process until the inputs change.
+     */
+    public boolean isIdle() {
+        return hasNoRecipe;
+    }
 }
\ No newline at end of file
@@ -174,6 +174,11 @@ public class TileEntityChemicalTank extends TileEntityConfigurableMachine implem
         return sendUpdatePacket;
     }
 
+    @Override
+    protected boolean isIdle() {
+        return (dumping == GasMode.IDLE || tier == ChemicalTankTier.CREATIVE || chemicalTank.getCurrent() == Current.EMPTY) && !ejectorComponent.hasPendingOutput();
+    }
+
     @Override
     public void nextMode(int tank) {
         if (tank == 0) {
@@ -156,6 +156,12 @@ public class TileEntityFluidTank extends TileEntityMekanism implements IConfigur
         return sendUpdatePacket;
     }
 
+    @Override
+    protected boolean isIdle() {
+        //Note: We can't tell when the tank below us has room again, so if we are emitting we need to keep ticking
+        return valve == 0 && !needsPacket && (!getActive() || fluidTank.isEmpty());
+    }
+
     @Override
     public void writeSustainedData(HolderLookup.Provider provider, CompoundTag data) {
         super.writeSustainedData(provider, data);
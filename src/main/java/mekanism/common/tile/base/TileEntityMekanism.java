@@ -42,6 +42,7 @@ import mekanism.api.security.IBlockSecurityUtils;
 import mekanism.api.security.SecurityMode;
 import mekanism.api.text.TextComponentUtil;
 import mekanism.client.sound.SoundHandler;
+import mekanism.common.CommonWorldTickHandler;
 import mekanism.common.Mekanism;
 import mekanism.common.attachments.FilterAware;
 import mekanism.common.attachments.containers.ContainerType;
@@ -297,6 +298,16 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     private int playSoundCooldown = 0;
     //End variables ITileSound
 
+    //Variables for handling dormancy
+    /**
+     * Number of ticks in a row a tile needs to have been idle for before it becomes dormant.
+     */
+    private static final int DORMANCY_DELAY = SharedConstants.TICKS_PER_SECOND;
+    private static int dormantTiles;
+    private int idleTicks;
+    private boolean dormant;
+    //End variables dormancy
+
     public TileEntityMekanism(IBlockProvider blockProvider, BlockPos pos, BlockState state) {
         super(((IHasTileEntity<? extends BlockEntity>) blockProvider.getBlock()).getTileType(), pos, state);
         this.blockProvider = blockProvider;
@@ -566,6 +577,15 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         return nameable;
     }
 
+    @Override
+    protected void setChanged(boolean updateComparator) {
+        super.setChanged(updateComparator);
+        if (level != null && !isRemote()) {
+            //Something about us changed, so we may have work to do
+            wakeUp();
+        }
+    }
+
     @Override
     public void markDirtyComparator() {
         //Only mark our comparators as needing update if we support comparators
@@ -636,6 +656,14 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     }
 
     public static void tickServer(Level level, BlockPos pos, BlockState state, TileEntityMekanism tile) {
+        if (tile.dormant) {
+            if (!CommonWorldTickHandler.flushTagAndRecipeCaches) {
+                //Nothing has changed that would give us any work to do, skip ticking until something wakes us up
+                return;
+            }
+            //Wake up when recipes or tags get reloaded, as we may be able to do something now
+            tile.wakeUp();
+        }
         tile.frequencyComponent.tickServer(level, pos);
         if (tile.supportsUpgrades()) {
             tile.upgradeComponent.tickServer();
@@ -681,10 +709,12 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         if (sendUpdatePacket) {
             tile.sendUpdatePacket();
         }
+        tile.updateDormancy();
     }
 
     public void open(Player player) {
         playersUsing.add(player);
+        wakeUp();
     }
 
     public void close(Player player) {
@@ -694,6 +724,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     @Override
     public void setRemoved() {
         super.setRemoved();
+        wakeUp();
         for (ITileComponent component : components) {
             component.invalidate();
         }
@@ -715,6 +746,61 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         }
     }
 
+    /**
+     * Checks if this tile has nothing to do until something about it changes. Tiles that report themselves as idle for {@link #DORMANCY_DELAY} ticks in a row without
+     * anything changing get put to sleep, and skip ticking until they get woken up by their contents changing, a neighbor changing, or a player opening them.
+     *
+     * @return {@code true} if this tile is idle.
+     *
+     * @implNote Defaults to {@code false} so that tiles have to opt in to becoming dormant. Tiles that opt in should make sure that anything that can give them more work
+     * to do either changes their contents or calls {@link #wakeUp()}.
+     */
+    protected boolean isIdle() {
+        return false;
+    }
+
+    private boolean canBecomeDormant() {
+        return playersUsing.isEmpty() && !hasChunkloader && updateDelay == 0 && !updateComparators && !canHandleHeat() && frequencyComponent.isIdle() &&
+               (!supportsUpgrades() || upgradeComponent.isIdle()) && isIdle();
+    }
+
+    private void updateDormancy() {
+        if (canBecomeDormant()) {
+            if (++idleTicks >= DORMANCY_DELAY) {
+                dormant = true;
+                dormantTiles++;
+            }
+        } else {
+            idleTicks = 0;
+        }
+    }
+
+    /**
+     * Wakes this tile up if it is dormant, and resets how long it has been idle for.
+     */
+    public void wakeUp() {
+        idleTicks = 0;
+        if (dormant) {
+            dormant = false;
+            dormantTiles--;
+        }
+    }
+
+    public boolean isDormant() {
+        return dormant;
+    }
+
+    /**
+     * @return The number of tiles that are currently dormant.
+     */
+    public static int getDormantTiles() {
+        return dormantTiles;
+    }
+
+    public static void resetDormantTiles() {
+        dormantTiles = 0;
+    }
+
     /**
      * Update call for machines. Use instead of updateEntity -- it's called every tick on the client side.
      */
@@ -997,6 +1083,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
 
     public void onNeighborChange(Block block, BlockPos neighborPos) {
         if (!isRemote()) {
+            wakeUp();
             updatePower();
         }
     }
@@ -1601,6 +1688,8 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
             BlockState state = getBlockState();
             if (activeAttribute != null) {
                 currentActive = active;
+                //Being turned on or off may change whether we have anything to do
+                wakeUp();
                 if (getClientActive() != active) {
                     if (active) {
                         //Always turn on instantly
@@ -21,6 +21,7 @@ import mekanism.api.chemical.IChemicalHandler;
 import mekanism.api.chemical.IChemicalTank;
 import mekanism.api.energy.IEnergyContainer;
 import mekanism.api.fluid.IExtendedFluidTank;
+import mekanism.api.inventory.IInventorySlot;
 import mekanism.api.math.FloatingLongSupplier;
 import mekanism.api.text.EnumColor;
 import mekanism.common.attachments.component.AttachedEjector;
@@ -46,6 +47,7 @@ import mekanism.common.tile.component.config.DataType;
 import mekanism.common.tile.component.config.slot.ChemicalSlotInfo;
 import mekanism.common.tile.component.config.slot.EnergySlotInfo;
 import mekanism.common.tile.component.config.slot.FluidSlotInfo;
+import mekanism.common.tile.component.config.slot.IProxiedSlotInfo;
 import mekanism.common.tile.component.config.slot.ISlotInfo;
 import mekanism.common.tile.component.config.slot.InventorySlotInfo;
 import mekanism.common.util.CableUtils;
@@ -56,6 +58,7 @@ import mekanism.common.util.InventoryUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.NBTUtils;
 import mekanism.common.util.TransporterUtils;
+import net.minecraft.SharedConstants;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.HolderLookup;
@@ -78,6 +81,12 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
 
     private final Map<TransmissionType, Map<Direction, BlockCapabilityCache<?, @Nullable Direction>>> capabilityCaches = new EnumMap<>(TransmissionType.class);
     private final Map<Direction, BlockEnergyCapabilityCache> energyCapabilityCache = new EnumMap<>(Direction.class);
+    /**
+     * Output containers and the capability caches of the sides they eject to for each non item type, cleared whenever the side config or facing changes.
+     *
+     * @implNote Types with proxied containers are not cached, see {@link #canCacheTargets(ConfigInfo)}.
+     */
+    private final Map<TransmissionType, Map<Object, List<?>>> ejectTargets = new EnumMap<>(TransmissionType.class);
 
     private final Function<LogisticalTransporterBase, EnumColor> outputColorFunction;
     private final EnumColor[] inputColors = new EnumColor[EnumUtils.SIDES.length];
@@ -92,6 +101,9 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
     private boolean strictInput;
     private EnumColor outputColor;
     private int tickDelay = 0;
+    //Whether anything changed since we last tried to eject that may allow us to eject more
+    private boolean ejectPending = true;
+    private int retryDelay = 0;
 
     public TileComponentEjector(TileEntityMekanism tile) {
         this(tile, MekanismConfig.general.chemicalAutoEjectRate);
@@ -123,6 +135,7 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
             ConfigInfo info = config.getConfig(type);
             if (info != null) {
                 configInfo.put(type, info);
+                config.addConfigChangeListener(type, side -> ejectTargets.remove(type));
             }
         }
         return this;
@@ -142,7 +155,35 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
         return info.isEjecting() && (canEject == null || canEject.test(type));
     }
 
+    /**
+     * Marks that something changed which may allow us to eject more, such as our contents changing or one of our targets changing.
+     */
+    public void queueEject() {
+        ejectPending = true;
+    }
+
+    /**
+     * Clears the cached targets we eject to, called when the direction the tile is facing changes.
+     */
+    public void invalidateTargets() {
+        ejectTargets.clear();
+        ejectPending = true;
+    }
+
     public void tickServer() {
+        if (tickDelay > 0) {
+            tickDelay--;
+        }
+        if (!ejectPending && --retryDelay > 0) {
+            //Nothing has changed since we last tried to eject, so there is no point in trying again until it is time to check if our targets have room again
+            // as not all targets let us know when they are able to accept more
+            return;
+        }
+        //Note: We mark it as no longer pending before ejecting so that any changes caused by ejecting mark it as pending again, which will make us keep
+        // ejecting until we either run out of things to eject or our targets are unable to accept any more
+        ejectPending = false;
+        retryDelay = SharedConstants.TICKS_PER_SECOND;
+        boolean itemsDelayed = false;
         Lazy<Direction> facing = Lazy.of(tile::getDirection);
         for (Map.Entry<TransmissionType, ConfigInfo> entry : configInfo.entrySet()) {
             TransmissionType type = entry.getKey();
@@ -152,13 +193,71 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
                     if (tickDelay == 0) {
                         outputItems(facing.get(), info);
                     } else {
-                        tickDelay--;
+                        itemsDelayed = true;
                     }
                 } else if (type != TransmissionType.HEAT) {
                     eject(type, facing.get(), info);
                 }
             }
         }
+        if (itemsDelayed) {
+            //Try again once we are able to eject items
+            ejectPending = true;
+        }
+    }
+
+    /**
+     * @return {@code true} if any of the types that are being ejected have contents that can be ejected.
+     */
+    public boolean hasPendingOutput() {
+        for (Map.Entry<TransmissionType, ConfigInfo> entry : configInfo.entrySet()) {
+            TransmissionType type = entry.getKey();
+            ConfigInfo info = entry.getValue();
+            if (type != TransmissionType.HEAT && isEjecting(info, type)) {
+                for (DataType dataType : info.getSupportedDataTypes()) {
+                    if (dataType.canOutput() && hasContents(info.getSlotInfo(dataType))) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasContents(@Nullable ISlotInfo slotInfo) {
+        switch (slotInfo) {
+            case InventorySlotInfo inventorySlotInfo -> {
+                for (IInventorySlot slot : inventorySlotInfo.getSlots()) {
+                    if (!slot.isEmpty()) {
+                        return true;
+                    }
+                }
+            }
+            case ChemicalSlotInfo<?, ?, ?> chemicalSlotInfo -> {
+                for (IChemicalTank<?, ?> tank : chemicalSlotInfo.getTanks()) {
+                    if (!tank.isEmpty()) {
+                        return true;
+                    }
+                }
+            }
+            case FluidSlotInfo fluidSlotInfo -> {
+                for (IExtendedFluidTank tank : fluidSlotInfo.getTanks()) {
+                    if (!tank.isEmpty()) {
+                        return true;
+                    }
+                }
+            }
+            case EnergySlotInfo energySlotInfo -> {
+                for (IEnergyContainer container : energySlotInfo.getContainers()) {
+                    if (!container.isEmpty()) {
+                        return true;
+                    }
+                }
+            }
+            case null, default -> {
+            }
+        }
+        return false;
     }
 
     private void addData(Map<Object, Set<Direction>> outputData, Object container, Set<Direction> outputSides) {
@@ -174,7 +273,46 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
     /**
      * @apiNote Ensure that it can eject before calling this method.
      */
+    @SuppressWarnings("unchecked")
     private void eject(TransmissionType type, Direction facing, ConfigInfo info) {
+        Map<Object, List<?>> targets = ejectTargets.get(type);
+        if (targets == null) {
+            targets = getEjectTargets(type, facing, info);
+            if (canCacheTargets(info)) {
+                ejectTargets.put(type, targets);
+            }
+        }
+        for (Map.Entry<Object, List<?>> entry : targets.entrySet()) {
+            switch (entry.getKey()) {
+                case IChemicalTank<?, ?> tank -> {
+                    if (!tank.isEmpty() && (canTankEject == null || canTankEject.test(tank))) {
+                        emit(entry.getValue(), tank);
+                    }
+                }
+                case IExtendedFluidTank tank -> FluidUtils.emit((List<BlockCapabilityCache<IFluidHandler, @Nullable Direction>>) entry.getValue(), tank,
+                      fluidEjectRate.getAsInt());
+                case IEnergyContainer container -> CableUtils.emit((List<BlockEnergyCapabilityCache>) entry.getValue(), container,
+                      energyEjectRate == null ? container.getMaxEnergy() : energyEjectRate.get());
+                default -> {
+                }
+            }
+        }
+    }
+
+    /**
+     * Proxied slot infos look up their containers when they are queried, for example from the frequency the tile is on, which means the containers may change without
+     * the config changing. We don't cache the targets for them so that we don't end up ejecting from containers we no longer have.
+     */
+    private static boolean canCacheTargets(ConfigInfo info) {
+        for (DataType dataType : info.getSupportedDataTypes()) {
+            if (dataType.canOutput() && info.getSlotInfo(dataType) instanceof IProxiedSlotInfo) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Map<Object, List<?>> getEjectTargets(TransmissionType type, Direction facing, ConfigInfo info) {
         //Used to keep track of tanks to what sides they output to
         Map<Object, Set<Direction>> outputData = null;
         for (DataType dataType : info.getSupportedDataTypes()) {
@@ -190,23 +328,17 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
                         switch (slotInfo) {
                             case ChemicalSlotInfo<?, ?, ?> chemicalSlotInfo when type.isChemical() -> {
                                 for (IChemicalTank<?, ?> tank : chemicalSlotInfo.getTanks()) {
-                                    if (!tank.isEmpty() && (canTankEject == null || canTankEject.test(tank))) {
-                                        addData(outputData, tank, outputSides);
-                                    }
+                                    addData(outputData, tank, outputSides);
                                 }
                             }
                             case FluidSlotInfo fluidSlotInfo when type == TransmissionType.FLUID -> {
                                 for (IExtendedFluidTank tank : fluidSlotInfo.getTanks()) {
-                                    if (!tank.isEmpty()) {
-                                        addData(outputData, tank, outputSides);
-                                    }
+                                    addData(outputData, tank, outputSides);
                                 }
                             }
                             case EnergySlotInfo energySlotInfo when type == TransmissionType.ENERGY -> {
                                 for (IEnergyContainer container : energySlotInfo.getContainers()) {
-                                    if (!container.isEmpty()) {
-                                        addData(outputData, container, outputSides);
-                                    }
+                                    addData(outputData, container, outputSides);
                                 }
                             }
                             default -> {
@@ -216,48 +348,61 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
                 }
             }
         }
-        if (outputData != null && !outputData.isEmpty()) {
-            ServerLevel level = (ServerLevel) tile.getLevel();
-            BlockPos pos = tile.getBlockPos();
-            Map<Direction, BlockCapabilityCache<?, @Nullable Direction>> typeCapabilityCaches = capabilityCaches.computeIfAbsent(type, t -> new EnumMap<>(Direction.class));
-            for (Map.Entry<Object, Set<Direction>> entry : outputData.entrySet()) {
-                Set<Direction> sides = entry.getValue();
-                if (type.isChemical()) {
-                    emit(level, pos, typeCapabilityCaches, sides, (IChemicalTank<?, ?>) entry.getKey());
-                } else if (type == TransmissionType.FLUID) {
-                    List<BlockCapabilityCache<IFluidHandler, @Nullable Direction>> caches = getCapabilityCaches(level, pos, typeCapabilityCaches, sides, Capabilities.FLUID);
-                    FluidUtils.emit(caches, (IExtendedFluidTank) entry.getKey(), fluidEjectRate.getAsInt());
-                } else if (type == TransmissionType.ENERGY) {
-                    IEnergyContainer container = (IEnergyContainer) entry.getKey();
-                    List<BlockEnergyCapabilityCache> caches = new ArrayList<>(sides.size());
-                    for (Direction side : sides) {
-                        BlockEnergyCapabilityCache cache = energyCapabilityCache.get(side);
-                        if (cache == null) {
-                            cache = BlockEnergyCapabilityCache.create(level, pos.relative(side), side.getOpposite());
-                            energyCapabilityCache.put(side, cache);
-                        }
-                        caches.add(cache);
+        if (outputData == null || outputData.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        ServerLevel level = (ServerLevel) tile.getLevel();
+        BlockPos pos = tile.getBlockPos();
+        Map<Direction, BlockCapabilityCache<?, @Nullable Direction>> typeCapabilityCaches = capabilityCaches.computeIfAbsent(type, t -> new EnumMap<>(Direction.class));
+        Map<Object, List<?>> targets = new IdentityHashMap<>(outputData.size());
+        for (Map.Entry<Object, Set<Direction>> entry : outputData.entrySet()) {
+            Set<Direction> sides = entry.getValue();
+            List<?> caches;
+            if (type.isChemical()) {
+                caches = getChemicalCapabilityCaches(level, pos, typeCapabilityCaches, sides, (IChemicalTank<?, ?>) entry.getKey());
+            } else if (type == TransmissionType.FLUID) {
+                caches = getCapabilityCaches(level, pos, typeCapabilityCaches, sides, Capabilities.FLUID);
+            } else {
+                List<BlockEnergyCapabilityCache> energyCaches = new ArrayList<>(sides.size());
+                for (Direction side : sides) {
+                    BlockEnergyCapabilityCache cache = energyCapabilityCache.get(side);
+                    if (cache == null) {
+                        cache = BlockEnergyCapabilityCache.create(level, pos.relative(side), side.getOpposite(), this::isTileValid, this::queueEject);
+                        energyCapabilityCache.put(side, cache);
                     }
-                    CableUtils.emit(caches, container, energyEjectRate == null ? container.getMaxEnergy() : energyEjectRate.get());
+                    energyCaches.add(cache);
                 }
+                caches = energyCaches;
             }
+            targets.put(entry.getKey(), caches);
         }
+        return targets;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>, HANDLER extends IChemicalHandler<CHEMICAL, STACK>> void emit(List<?> caches,
+          IChemicalTank<CHEMICAL, STACK> tank) {
+        ChemicalUtil.emit((List<BlockCapabilityCache<HANDLER, @Nullable Direction>>) caches, tank, chemicalEjectRate.getAsLong());
+    }
+
+    private <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>, HANDLER extends IChemicalHandler<CHEMICAL, STACK>>
+    List<BlockCapabilityCache<HANDLER, @Nullable Direction>> getChemicalCapabilityCaches(ServerLevel level, BlockPos pos,
+          Map<Direction, BlockCapabilityCache<?, @Nullable Direction>> typeCapabilityCaches, Set<Direction> sides, IChemicalTank<CHEMICAL, STACK> tank) {
+        return getCapabilityCaches(level, pos, typeCapabilityCaches, sides, ChemicalUtil.getCapabilityForChemical(tank));
     }
 
-    private <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>, HANDLER extends IChemicalHandler<CHEMICAL, STACK>> void emit(ServerLevel level,
-          BlockPos pos, Map<Direction, BlockCapabilityCache<?, @Nullable Direction>> typeCapabilityCaches, Set<Direction> sides, IChemicalTank<CHEMICAL, STACK> tank) {
-        List<BlockCapabilityCache<HANDLER, @Nullable Direction>> caches = getCapabilityCaches(level, pos, typeCapabilityCaches, sides, ChemicalUtil.getCapabilityForChemical(tank));
-        ChemicalUtil.emit(caches, tank, chemicalEjectRate.getAsLong());
+    private boolean isTileValid() {
+        return !tile.isRemoved();
     }
 
     @SuppressWarnings("unchecked")
-    private static <HANDLER> List<BlockCapabilityCache<HANDLER, @Nullable Direction>> getCapabilityCaches(ServerLevel level, BlockPos pos,
+    private <HANDLER> List<BlockCapabilityCache<HANDLER, @Nullable Direction>> getCapabilityCaches(ServerLevel level, BlockPos pos,
           Map<Direction, BlockCapabilityCache<?, @Nullable Direction>> typeCapabilityCaches, Set<Direction> sides, IMultiTypeCapability<HANDLER, ?> capability) {
         List<BlockCapabilityCache<HANDLER, @Nullable Direction>> caches = new ArrayList<>(sides.size());
         for (Direction side : sides) {
             BlockCapabilityCache<HANDLER, @Nullable Direction> cache = (BlockCapabilityCache<HANDLER, @Nullable Direction>) typeCapabilityCaches.get(side);
             if (cache == null) {
-                cache = capability.createCache(level, pos.relative(side), side.getOpposite());
+                cache = capability.createCache(level, pos.relative(side), side.getOpposite(), this::isTileValid, this::queueEject);
                 typeCapabilityCaches.put(side, cache);
             }
             caches.add(cache);
@@ -287,7 +432,7 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
                     for (Direction side : outputs) {
                         BlockCapabilityCache<IItemHandler, @Nullable Direction> cache = (BlockCapabilityCache<IItemHandler, @Nullable Direction>) typeCapabilityCaches.get(side);
                         if (cache == null) {
-                            cache = Capabilities.ITEM.createCache(level, tile.getBlockPos().relative(side), side.getOpposite());
+                            cache = Capabilities.ITEM.createCache(level, tile.getBlockPos().relative(side), side.getOpposite(), this::isTileValid, this::queueEject);
                             typeCapabilityCaches.put(side, cache);
                         }
                         IItemHandler capability = cache.getCapability();
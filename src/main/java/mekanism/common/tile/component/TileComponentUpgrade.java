@@ -69,6 +69,13 @@ public class TileComponentUpgrade implements ITileComponent, ISpecificContainerT
         this.tile.addComponent(this);
     }
 
+    /**
+     * @return {@code true} if this component doesn't have any work it needs to do each tick.
+     */
+    public boolean isIdle() {
+        return !canCheckUpgrades;
+    }
+
     public void tickServer() {
         if (canCheckUpgrades) {
             ItemStack stack = upgradeSlot.getStack();
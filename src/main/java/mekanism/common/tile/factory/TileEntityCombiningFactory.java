@@ -63,8 +63,8 @@ public class TileEntityCombiningFactory extends TileEntityItemToItemFactory<Comb
     }
 
     @Override
-    protected void addSlots(InventorySlotHelper builder, IContentsListener listener, IContentsListener updateSortingListener) {
-        super.addSlots(builder, listener, updateSortingListener);
+    protected void addSlots(InventorySlotHelper builder, IContentsListener listener) {
+        super.addSlots(builder, listener);
         builder.addSlot(extraSlot = InputInventorySlot.at(this::containsRecipeB, markAllMonitorsChanged(listener), 7, 57));
         extraSlot.setSlotType(ContainerSlotType.EXTRA);
     }
@@ -10,7 +10,6 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.function.BooleanSupplier;
-import java.util.function.ToIntBiFunction;
 import mekanism.api.Action;
 import mekanism.api.IContentsListener;
 import mekanism.api.SerializationConstants;
@@ -79,6 +78,7 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
      * How many ticks it takes, by default, to run an operation.
      */
     protected static final int BASE_TICKS_REQUIRED = 200;
+    private static final int ALL_PROCESSES = -1;
 
     protected FactoryRecipeCacheLookupMonitor<RECIPE>[] recipeCacheLookupMonitors;
     protected BooleanSupplier[] recheckAllRecipeErrors;
@@ -98,7 +98,10 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
      */
     private int ticksRequired = BASE_TICKS_REQUIRED;
     private boolean sorting;
-    private boolean sortingNeeded = true;
+    /**
+     * Bitmask of the processes whose input or output slots have changed since the inventory was last sorted.
+     */
+    private int processesNeedingSort = ALL_PROCESSES;
     private FloatingLong lastUsage = FloatingLong.ZERO;
 
     /**
@@ -167,10 +170,10 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
     protected void presetVariables() {
         super.presetVariables();
         tier = Attribute.getTier(getBlockType(), FactoryTier.class);
-        Runnable setSortingNeeded = () -> sortingNeeded = true;
         recipeCacheLookupMonitors = new FactoryRecipeCacheLookupMonitor[tier.processes];
         for (int i = 0; i < recipeCacheLookupMonitors.length; i++) {
-            recipeCacheLookupMonitors[i] = new FactoryRecipeCacheLookupMonitor<>(this, i, setSortingNeeded);
+            int processBit = 1 << i;
+            recipeCacheLookupMonitors[i] = new FactoryRecipeCacheLookupMonitor<>(this, i, () -> processesNeedingSort |= processBit);
         }
     }
 
@@ -191,19 +194,19 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
     @Override
     protected IInventorySlotHolder getInitialInventory(IContentsListener listener) {
         InventorySlotHelper builder = InventorySlotHelper.forSideWithConfig(this::getDirection, this::getConfig);
-        addSlots(builder, listener, () -> {
-            listener.onContentsChanged();
-            //Mark sorting as being needed again
-            sortingNeeded = true;
-        });
+        addSlots(builder, listener);
         //Add the energy slot after adding the other slots so that it has the lowest priority in shift clicking
-        //Note: We can just pass ourselves as the listener instead of the listener that updates sorting as well,
+        //Note: We can just pass ourselves as the listener instead of marking sorting as needed as well,
         // as changes to it won't change anything about the sorting of the recipe
         builder.addSlot(energySlot = EnergyInventorySlot.fillOrConvert(energyContainer, this::getLevel, listener, 7, 13));
         return builder.build();
     }
 
-    protected abstract void addSlots(InventorySlotHelper builder, IContentsListener listener, IContentsListener updateSortingListener);
+    /**
+     * Adds the slots for this factory. The listeners for the input and output slots of each process should go through that process'
+     * {@link FactoryRecipeCacheLookupMonitor} so that only the groupings of the process that changed get sorted.
+     */
+    protected abstract void addSlots(InventorySlotHelper builder, IContentsListener listener);
 
     @Nullable
     protected IInventorySlot getExtraSlot() {
@@ -220,23 +223,19 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
         energySlot.fillContainerOrConvert();
 
         handleSecondaryFuel();
-        if (sortingNeeded && isSorting()) {
-            //If sorting is needed, and we have sorting enabled mark
-            // sorting as no longer needed and sort the inventory
-            sortingNeeded = false;
-            // Note: If sorting happens, sorting will be marked as needed once more
-            // (due to changes in the inventory), but this is fine, and we purposely
-            // mark sorting being needed as false before instead of after this method
-            // call, because while it tries to optimize the layout, if the optimization
-            // would make it so that some slots are now empty (because of stacked inputs
-            // being required), we want to make sure we are able to fill those slots
-            // with other items.
-            sortInventory();
-        } else if (!sortingNeeded && CommonWorldTickHandler.flushTagAndRecipeCaches) {
-            //Otherwise, if sorting isn't currently needed and the recipe cache is invalid
-            // Mark sorting as being needed again for the next check as recipes may
-            // have changed so our current sort may be incorrect
-            sortingNeeded = true;
+        if (processesNeedingSort != 0 && isSorting()) {
+            //If sorting is needed, and we have sorting enabled sort the inventory
+            // Note: Sorting will mark the processes it changes as needing to be sorted
+            // once more, but we don't need to sort those again as they were just sorted.
+            // The only exception is if the optimization made it so that some slots are now
+            // empty (because of stacked inputs being required), in which case we want to
+            // make sure we are able to fill those slots with other items.
+            processesNeedingSort = sortInventory(processesNeedingSort);
+        } else if (CommonWorldTickHandler.flushTagAndRecipeCaches) {
+            //Otherwise, if the recipe cache is invalid mark sorting as being needed for
+            // all processes for the next check as recipes may have changed so our current
+            // sort may be incorrect
+            processesNeedingSort = ALL_PROCESSES;
         }
 
         //Copy this so that if it changes we still have the original amount. Don't bother making it a constant though as this way
@@ -428,6 +427,10 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
         if (upgrade == Upgrade.SPEED) {
             ticksRequired = MekanismUtils.getTicks(this, BASE_TICKS_REQUIRED);
         }
+        //Upgrades can change the energy and time recipes take, so make sure the recipes don't stay paused on errors they may no longer have
+        for (FactoryRecipeCacheLookupMonitor<RECIPE> cacheLookupMonitor : recipeCacheLookupMonitors) {
+            cacheLookupMonitor.unpause();
+        }
     }
 
     @NotNull
@@ -519,74 +522,55 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
     }
     //End methods IComputerTile
 
-    private void sortInventory() {
+    /**
+     * Sorts the inventory, only redistributing the items of processes that have changed since the inventory was last sorted. The groupings of processes that haven't
+     * changed were already balanced by the previous sort, so they only get looked at if there is a newly empty process they may be able to spread into.
+     *
+     * @param changedProcesses Bitmask of the processes that have changed since the inventory was last sorted.
+     *
+     * @return Bitmask of the processes that were emptied by sorting, and that other items may need to be sorted into.
+     */
+    private int sortInventory(int changedProcesses) {
         Map<HashedItem, RecipeProcessInfo<RECIPE>> processes = new HashMap<>();
         List<ProcessInfo> emptyProcesses = new ArrayList<>();
+        boolean emptyProcessChanged = false;
         for (ProcessInfo processInfo : processInfoSlots) {
+            boolean changed = (changedProcesses & (1 << processInfo.process())) != 0;
             IInventorySlot inputSlot = processInfo.inputSlot();
             if (inputSlot.isEmpty()) {
                 emptyProcesses.add(processInfo);
+                emptyProcessChanged |= changed;
             } else {
                 ItemStack inputStack = inputSlot.getStack();
                 HashedItem item = HashedItem.raw(inputStack);
-                RecipeProcessInfo<RECIPE> recipeProcessInfo = processes.computeIfAbsent(item, i -> new RecipeProcessInfo<>());
+                RecipeProcessInfo<RECIPE> recipeProcessInfo = processes.computeIfAbsent(item, i -> new RecipeProcessInfo<>(item));
                 recipeProcessInfo.processes.add(processInfo);
                 recipeProcessInfo.totalCount += inputStack.getCount();
-                if (recipeProcessInfo.lazyMinPerSlot == null && !CommonWorldTickHandler.flushTagAndRecipeCaches) {
-                    //If we don't have a lazily initialized min per slot calculation set for it yet
-                    // and our cache is not invalid/out of date due to a reload
-                    CachedRecipe<RECIPE> cachedRecipe = getCachedRecipe(processInfo.process());
-                    if (isCachedRecipeValid(cachedRecipe, inputStack)) {
-                        recipeProcessInfo.item = inputStack;
-                        recipeProcessInfo.recipe = cachedRecipe.getRecipe();
-                        // And our current process has a cached recipe then set the lazily initialized per slot value
-                        // Note: If something goes wrong, and we end up with zero as how much we need as an input
-                        // we just bump the value up to one to make sure we properly handle it
-                        recipeProcessInfo.lazyMinPerSlot = (info, factory) -> factory.getNeededInput(info.recipe, (ItemStack) info.item);
-                    }
-                }
+                recipeProcessInfo.changed |= changed;
             }
         }
         if (processes.isEmpty()) {
             //If all input slots are empty, just exit
-            return;
-        }
-        for (Entry<HashedItem, RecipeProcessInfo<RECIPE>> entry : processes.entrySet()) {
-            RecipeProcessInfo<RECIPE> recipeProcessInfo = entry.getValue();
-            if (recipeProcessInfo.lazyMinPerSlot == null) {
-                recipeProcessInfo.item = entry.getKey();
-                //If we don't have a lazy initializer for our minPerSlot setup, that means that there is
-                // no valid cached recipe for any of the slots of this type currently, so we want to try and
-                // get the recipe we will have for the first slot, once we end up with more items in the stack
-                recipeProcessInfo.lazyMinPerSlot = (info, factory) -> {
-                    //Note: We put all of this logic in the lazy init, so that we don't actually call any of this
-                    // until it is needed. That way if we have no empty slots and all our input slots are filled
-                    // we don't do any extra processing here, and can properly short circuit
-                    HashedItem item = (HashedItem) info.item;
-                    ItemStack largerInput = item.createStack(Math.min(item.getMaxStackSize(), info.totalCount));
-                    ProcessInfo processInfo = info.processes.getFirst();
-                    //Try getting a recipe for our input with a larger size, and update the cache if we find one
-                    info.recipe = factory.getRecipeForInput(processInfo.process(), largerInput, processInfo.outputSlot(), processInfo.secondaryOutputSlot(), true);
-                    if (info.recipe != null) {
-                        return factory.getNeededInput(info.recipe, largerInput);
-                    }
-                    return 1;
-                };
-            }
+            return 0;
         }
         if (!emptyProcesses.isEmpty()) {
             //If we have any empty slots, we need to factor them in as valid slots for items to transferred to
-            addEmptySlotsAsTargets(processes, emptyProcesses);
+            addEmptySlotsAsTargets(processes, emptyProcesses, emptyProcessChanged);
             //Note: Any remaining empty slots are "ignored" as we don't have any
             // spare items to distribute to them
         }
         //Distribute items among the slots
-        distributeItems(processes);
+        return distributeItems(processes);
     }
 
-    private void addEmptySlotsAsTargets(Map<HashedItem, RecipeProcessInfo<RECIPE>> processes, List<ProcessInfo> emptyProcesses) {
+    private void addEmptySlotsAsTargets(Map<HashedItem, RecipeProcessInfo<RECIPE>> processes, List<ProcessInfo> emptyProcesses, boolean emptyProcessChanged) {
         for (Entry<HashedItem, RecipeProcessInfo<RECIPE>> entry : processes.entrySet()) {
             RecipeProcessInfo<RECIPE> recipeProcessInfo = entry.getValue();
+            if (!emptyProcessChanged && !recipeProcessInfo.changed) {
+                //If neither the empty slots nor the slots with this item have changed since we last sorted, then we know that this
+                // item wasn't able to be spread into any of the empty slots last time, so it won't be able to now either
+                continue;
+            }
             int minPerSlot = recipeProcessInfo.getMinPerSlot(this);
             int maxSlots = recipeProcessInfo.totalCount / minPerSlot;
             if (maxSlots <= 1) {
@@ -610,6 +594,7 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
                     // then add our empty process to our recipeProcessInfo, and mark
                     // the empty process as accounted for
                     recipeProcessInfo.processes.add(emptyProcess);
+                    recipeProcessInfo.changed = true;
                     toRemove.add(emptyProcess);
                     added++;
                     if (added >= emptyToAdd) {
@@ -627,9 +612,14 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
         }
     }
 
-    private void distributeItems(Map<HashedItem, RecipeProcessInfo<RECIPE>> processes) {
+    private int distributeItems(Map<HashedItem, RecipeProcessInfo<RECIPE>> processes) {
+        int emptiedProcesses = 0;
         for (Entry<HashedItem, RecipeProcessInfo<RECIPE>> entry : processes.entrySet()) {
             RecipeProcessInfo<RECIPE> recipeProcessInfo = entry.getValue();
+            if (!recipeProcessInfo.changed) {
+                //If none of the slots with this item have changed since we last sorted, they are still balanced; skip
+                continue;
+            }
             int processCount = recipeProcessInfo.processes.size();
             if (processCount == 1) {
                 //If there is only one process with the item in it; short-circuit, no balancing is needed
@@ -712,6 +702,7 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
                         //If the amount of the item we want to set it to is zero (all got used by earlier stacks, which might
                         // happen if the recipe requires a stacked input (minPerSlot > 1)), then we need to set the slot to empty
                         inputSlot.setEmpty();
+                        emptiedProcesses |= 1 << processInfo.process();
                     } else if (inputSlot.getCount() != sizeForSlot) {
                         //Otherwise, if our slot doesn't already contain the amount we want it to,
                         // we need to adjust how much is stored in it, and log an error if it changed
@@ -723,6 +714,31 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
                 }
             }
         }
+        return emptiedProcesses;
+    }
+
+    private int getMinPerSlot(RecipeProcessInfo<RECIPE> info) {
+        if (!CommonWorldTickHandler.flushTagAndRecipeCaches) {
+            //If our cache is not invalid/out of date due to a reload, check if any of the processes
+            // already have a valid cached recipe for the item, and if so reuse it rather than looking it up
+            for (ProcessInfo processInfo : info.processes) {
+                ItemStack inputStack = processInfo.inputSlot().getStack();
+                if (!inputStack.isEmpty()) {
+                    CachedRecipe<RECIPE> cachedRecipe = getCachedRecipe(processInfo.process());
+                    if (isCachedRecipeValid(cachedRecipe, inputStack)) {
+                        return getNeededInput(cachedRecipe.getRecipe(), inputStack);
+                    }
+                }
+            }
+        }
+        //If there is no valid cached recipe for any of the slots of this type currently, we want to try and
+        // get the recipe we will have for the first slot, once we end up with more items in the stack
+        HashedItem item = info.item;
+        ItemStack largerInput = item.createStack(Math.min(item.getMaxStackSize(), info.totalCount));
+        ProcessInfo processInfo = info.processes.getFirst();
+        //Try getting a recipe for our input with a larger size, and update the cache if we find one
+        RECIPE recipe = getRecipeForInput(processInfo.process(), largerInput, processInfo.outputSlot(), processInfo.secondaryOutputSlot(), true);
+        return recipe == null ? 1 : getNeededInput(recipe, largerInput);
     }
 
     public record ProcessInfo(int process, @NotNull FactoryInputInventorySlot inputSlot, @NotNull IInventorySlot outputSlot,
@@ -732,18 +748,25 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
     private static class RecipeProcessInfo<RECIPE extends MekanismRecipe<?>> {
 
         private final List<ProcessInfo> processes = new ArrayList<>();
-        @Nullable
-        private ToIntBiFunction<RecipeProcessInfo<RECIPE>, TileEntityFactory<RECIPE>> lazyMinPerSlot;
-        private Object item;
-        private RECIPE recipe;
-        private int minPerSlot = 1;
+        private final HashedItem item;
+        private int minPerSlot = -1;
         private int totalCount;
+        /**
+         * Whether any of the processes containing this item have changed since the inventory was last sorted.
+         */
+        private boolean changed;
+
+        private RecipeProcessInfo(HashedItem item) {
+            this.item = item;
+        }
 
         public int getMinPerSlot(TileEntityFactory<RECIPE> factory) {
-            if (lazyMinPerSlot != null) {
-                //Get the value lazily
-                minPerSlot = Math.max(1, lazyMinPerSlot.applyAsInt(this, factory));
-                lazyMinPerSlot = null;
+            if (minPerSlot == -1) {
+                //Calculate the value lazily, so that if we have no empty slots and all our input slots are filled
+                // we don't do any extra processing, and can properly short circuit
+                // Note: If something goes wrong, and we end up with zero as how much we need as an input
+                // we just bump the value up to one to make sure we properly handle it
+                minPerSlot = Math.max(1, factory.getMinPerSlot(this));
             }
             return minPerSlot;
         }
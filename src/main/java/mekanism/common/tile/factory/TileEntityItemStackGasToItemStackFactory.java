@@ -138,8 +138,8 @@ public class TileEntityItemStackGasToItemStackFactory extends TileEntityItemToIt
     }
 
     @Override
-    protected void addSlots(InventorySlotHelper builder, IContentsListener listener, IContentsListener updateSortingListener) {
-        super.addSlots(builder, listener, updateSortingListener);
+    protected void addSlots(InventorySlotHelper builder, IContentsListener listener) {
+        super.addSlots(builder, listener);
         //Note: We care about the gas tank not the slot when it comes to recipes and updating sorting
         builder.addSlot(extraSlot = GasInventorySlot.fillOrConvert(gasTank, this::getLevel, listener, 7, 57));
     }
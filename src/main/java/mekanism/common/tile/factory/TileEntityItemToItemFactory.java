@@ -31,7 +31,7 @@ public abstract class TileEntityItemToItemFactory<RECIPE extends MekanismRecipe<
     }
 
     @Override
-    protected void addSlots(InventorySlotHelper builder, IContentsListener listener, IContentsListener updateSortingListener) {
+    protected void addSlots(InventorySlotHelper builder, IContentsListener listener) {
         inputHandlers = new IInputHandler[tier.processes];
         outputHandlers = new IOutputHandler[tier.processes];
         processInfoSlots = new ProcessInfo[tier.processes];
@@ -40,11 +40,11 @@ public abstract class TileEntityItemToItemFactory<RECIPE extends MekanismRecipe<
         for (int i = 0; i < tier.processes; i++) {
             int xPos = baseX + (i * baseXMult);
             FactoryRecipeCacheLookupMonitor<RECIPE> lookupMonitor = recipeCacheLookupMonitors[i];
-            IContentsListener updateSortingAndUnpause = () -> {
-                updateSortingListener.onContentsChanged();
-                lookupMonitor.unpause();
+            IContentsListener outputListener = () -> {
+                listener.onContentsChanged();
+                lookupMonitor.onOutputChanged();
             };
-            OutputInventorySlot outputSlot = OutputInventorySlot.at(updateSortingAndUnpause, xPos, 57);
+            OutputInventorySlot outputSlot = OutputInventorySlot.at(outputListener, xPos, 57);
             //Note: As we are an item factory that has comparator's based on items we can just use the monitor as a listener directly
             FactoryInputInventorySlot inputSlot = FactoryInputInventorySlot.create(this, i, outputSlot, recipeCacheLookupMonitors[i], xPos, 13);
             int index = i;
@@ -92,8 +92,8 @@ public class TileEntityMetallurgicInfuserFactory extends TileEntityItemToItemFac
     }
 
     @Override
-    protected void addSlots(InventorySlotHelper builder, IContentsListener listener, IContentsListener updateSortingListener) {
-        super.addSlots(builder, listener, updateSortingListener);
+    protected void addSlots(InventorySlotHelper builder, IContentsListener listener) {
+        super.addSlots(builder, listener);
         //Note: We care about the infusion tank not the slot when it comes to recipes and updating sorting
         builder.addSlot(extraSlot = InfusionInventorySlot.fillOrConvert(infusionTank, this::getLevel, listener, 7, 57));
     }
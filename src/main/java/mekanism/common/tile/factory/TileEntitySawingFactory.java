@@ -75,7 +75,7 @@ public class TileEntitySawingFactory extends TileEntityFactory<SawmillRecipe> im
     }
 
     @Override
-    protected void addSlots(InventorySlotHelper builder, IContentsListener listener, IContentsListener updateSortingListener) {
+    protected void addSlots(InventorySlotHelper builder, IContentsListener listener) {
         inputHandlers = new IInputHandler[tier.processes];
         outputHandlers = new IOutputHandler[tier.processes];
         processInfoSlots = new ProcessInfo[tier.processes];
@@ -84,12 +84,12 @@ public class TileEntitySawingFactory extends TileEntityFactory<SawmillRecipe> im
         for (int i = 0; i < tier.processes; i++) {
             int xPos = baseX + (i * baseXMult);
             FactoryRecipeCacheLookupMonitor<SawmillRecipe> lookupMonitor = recipeCacheLookupMonitors[i];
-            IContentsListener updateSortingAndUnpause = () -> {
-                updateSortingListener.onContentsChanged();
-                lookupMonitor.unpause();
+            IContentsListener outputListener = () -> {
+                listener.onContentsChanged();
+                lookupMonitor.onOutputChanged();
             };
-            OutputInventorySlot outputSlot = OutputInventorySlot.at(updateSortingAndUnpause, xPos, 57);
-            OutputInventorySlot secondaryOutputSlot = OutputInventorySlot.at(updateSortingAndUnpause, xPos, 77);
+            OutputInventorySlot outputSlot = OutputInventorySlot.at(outputListener, xPos, 57);
+            OutputInventorySlot secondaryOutputSlot = OutputInventorySlot.at(outputListener, xPos, 77);
             //Note: As we are an item factory that has comparator's based on items we can just use the monitor as a listener directly
             FactoryInputInventorySlot inputSlot = FactoryInputInventorySlot.create(this, i, outputSlot, secondaryOutputSlot, lookupMonitor, xPos, 13);
             int index = i;
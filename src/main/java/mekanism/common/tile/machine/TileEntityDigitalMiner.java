@@ -4,9 +4,15 @@ import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.Object2IntLinkedOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanMap;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanOpenHashMap;
 import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.Collection;
@@ -38,7 +44,9 @@ import mekanism.common.capabilities.holder.slot.IInventorySlotHolder;
 import mekanism.common.capabilities.holder.slot.InventorySlotHelper;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.filter.SortableFilterManager;
+import mekanism.common.content.miner.MinerChangeTracker;
 import mekanism.common.content.miner.MinerFilter;
+import mekanism.common.content.miner.MinerFilterMatchTable;
 import mekanism.common.content.miner.ThreadMinerSearch;
 import mekanism.common.content.miner.ThreadMinerSearch.State;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
@@ -117,9 +125,12 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
     public static final int DEFAULT_RADIUS = 10;
 
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private final SortableFilterManager<MinerFilter<?>> filterManager = new SortableFilterManager<MinerFilter<?>>((Class) MinerFilter.class, this::markForSave);
+    private final SortableFilterManager<MinerFilter<?>> filterManager = new SortableFilterManager<MinerFilter<?>>((Class) MinerFilter.class, this::onFiltersChanged);
+    private final MinerFilterMatchTable filterMatchTable = new MinerFilterMatchTable(filterManager);
     private Long2ObjectMap<BitSet> oresToMine = Long2ObjectMaps.emptyMap();
     public ThreadMinerSearch searcher = new ThreadMinerSearch(this);
+    //Positions in range that changed since the blocks to mine were last updated, these get re-evaluated instead of searching everything again
+    private final LongSet changedPositions = new LongOpenHashSet();
 
     @Nullable
     private BlockCapabilityCache<IItemHandler, @Nullable Direction> pullInventory;
@@ -233,6 +244,9 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
             }
             initCalc = true;
         }
+        if (searcher.state == State.FINISHED && !changedPositions.isEmpty()) {
+            updateChangedPositions();
+        }
 
         energySlot.fillContainerOrConvert();
 
@@ -294,6 +308,46 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
         return sendUpdatePacket;
     }
 
+    /**
+     * Called when a block in range of the miner changes after the miner started searching.
+     */
+    public void onBlockChanged(BlockPos pos) {
+        changedPositions.add(pos.asLong());
+    }
+
+    private void updateChangedPositions() {
+        BlockPos startingPos = getStartingPos();
+        int diameter = getDiameter();
+        Reference2BooleanMap<Block> replaceTargets = new Reference2BooleanOpenHashMap<>();
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (LongIterator iterator = changedPositions.iterator(); iterator.hasNext(); ) {
+            pos.set(iterator.nextLong());
+            int index = getIndexForOffset(startingPos, diameter, pos);
+            long chunk = ChunkPos.asLong(pos);
+            BitSet chunkToMine = oresToMine.get(chunk);
+            if (ThreadMinerSearch.isAccepted(this, level, replaceTargets, pos)) {
+                if (chunkToMine == null) {
+                    if (oresToMine == Long2ObjectMaps.<BitSet>emptyMap()) {
+                        oresToMine = new Long2ObjectOpenHashMap<>();
+                    }
+                    chunkToMine = new BitSet();
+                    oresToMine.put(chunk, chunkToMine);
+                }
+                if (!chunkToMine.get(index)) {
+                    chunkToMine.set(index);
+                    cachedToMine++;
+                }
+            } else if (chunkToMine != null && chunkToMine.get(index)) {
+                chunkToMine.clear(index);
+                cachedToMine--;
+                if (chunkToMine.isEmpty()) {
+                    oresToMine.remove(chunk);
+                }
+            }
+        }
+        changedPositions.clear();
+    }
+
     public void updateFromSearch(Long2ObjectMap<BitSet> oresToMine, int found) {
         this.oresToMine = oresToMine;
         cachedToMine = found;
@@ -479,13 +533,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
                     if (!state.isAir() && !state.is(MekanismTags.Blocks.MINER_BLACKLIST)) {
                         //Make sure the block is loaded and is not air, and is not in the blacklist of blocks the miner can break
                         // then check if the block matches one of our filters
-                        MinerFilter<?> matchingFilter = null;
-                        for (MinerFilter<?> filter : filterManager.getEnabledFilters()) {
-                            if (filter.canFilter(state)) {
-                                matchingFilter = filter;
-                                break;
-                            }
-                        }
+                        MinerFilter<?> matchingFilter = filterMatchTable.getMatchingFilter(state);
                         //If our hasFilter state matches our inversion state, that means we should try to mine
                         // the block, so we check if we can mine it
                         if (inverse == (matchingFilter == null) && canMine(state, pos)) {
@@ -786,6 +834,10 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
             int diameter = getDiameter();
             searcher.setChunkCache(new PathNavigationRegion(getLevel(), startingPos, startingPos.offset(diameter, getMaxY() - getMinY() + 1, diameter)));
             searcher.start();
+            if (!isRemote()) {
+                //Start listening for changes before the search gets to run so that we don't miss any
+                MinerChangeTracker.track(this, getLevel().dimension(), startingPos, startingPos.offset(diameter - 1, getMaxY() - getMinY(), diameter - 1));
+            }
         }
         running = true;
         markForSave();
@@ -793,7 +845,6 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
 
     public void stop() {
         if (searcher.state == State.SEARCHING) {
-            searcher.interrupt();
             reset();
         } else if (searcher.state == State.FINISHED) {
             running = false;
@@ -805,8 +856,12 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
     }
 
     public void reset() {
-        //TODO: Should the old searcher thread be terminated somehow?
+        searcher.cancel();
         searcher = new ThreadMinerSearch(this);
+        if (!isRemote()) {
+            MinerChangeTracker.untrack(this);
+        }
+        changedPositions.clear();
         running = false;
         cachedToMine = 0;
         oresToMine = Long2ObjectMaps.emptyMap();
@@ -910,6 +965,10 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
         return start.offset(index % diameter, index / diameter / diameter, (index / diameter) % diameter);
     }
 
+    public static int getIndexForOffset(BlockPos start, int diameter, BlockPos pos) {
+        return ((pos.getY() - start.getY()) * diameter + pos.getZ() - start.getZ()) * diameter + pos.getX() - start.getX();
+    }
+
     @Override
     public boolean isPowered() {
         return redstone || numPowering > 0;
@@ -1026,6 +1085,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
         inverseReplaceTarget = NBTUtils.readRegistryEntry(dataMap, SerializationConstants.REPLACE_TARGET, BuiltInRegistries.ITEM, Items.AIR);
         NBTUtils.setBooleanIfPresent(dataMap, SerializationConstants.INVERSE_REQUIRES_REPLACE, requiresReplace -> inverseRequiresReplacement = requiresReplace);
         filterManager.readFromNBT(provider, dataMap);
+        filterMatchTable.invalidate();
         //Note: We read the overflow information if it is present in sustained data in order to grab the information from the digital miner item
         // when it is placed or when the BE is loaded from NBT, but the corresponding writing of the data is done in the saveAdditional method
         // as opposed to the writeSustainedData method to ensure that configuration cards do not copy overflow data from one miner to another
@@ -1199,13 +1259,33 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
         return filterManager;
     }
 
+    public MinerFilterMatchTable getFilterMatchTable() {
+        return filterMatchTable;
+    }
+
+    private void onFiltersChanged() {
+        filterMatchTable.invalidate();
+        markForSave();
+    }
+
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        //Stop searching and listening for changes as the results can no longer be used
+        searcher.cancel();
+        if (!isRemote()) {
+            //Note: Only the server tracks changes, and the tracker isn't safe to access from the client thread
+            MinerChangeTracker.untrack(this);
+        }
+    }
+
     public MinerEnergyContainer getEnergyContainer() {
         return energyContainer;
     }
 
     @ComputerMethod(methodDescription = "Get the count of block found but not yet mined")
     public int getToMine() {
-        return !isRemote() && searcher.state == State.SEARCHING ? searcher.found : cachedToMine;
+        return !isRemote() && searcher.state == State.SEARCHING ? searcher.getFound() : cachedToMine;
     }
 
     @ComputerMethod(methodDescription = "Whether the miner is currently running")
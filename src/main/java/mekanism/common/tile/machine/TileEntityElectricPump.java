@@ -1,11 +1,9 @@
 package mekanism.common.tile.machine;
 
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
-import java.util.ArrayList;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import mekanism.api.Action;
 import mekanism.api.AutomationType;
 import mekanism.api.IConfigurable;
@@ -103,7 +101,9 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IConfi
     /**
      * The nodes that have full sources near them or in them
      */
-    private final Set<BlockPos> recurringNodes = new ObjectOpenHashSet<>();
+    //Frontier of positions that have been pumped, in the order they were found so that we expand outwards from the pump. Persisted so that we don't have to
+    // rediscover the fluid body after each operation or when reloading
+    private final LongLinkedOpenHashSet recurringNodes = new LongLinkedOpenHashSet();
     private List<BlockCapabilityCache<IFluidHandler, @Nullable Direction>> fluidHandlerAbove = Collections.emptyList();
 
     private MachineEnergyContainer<TileEntityElectricPump> energyContainer;
@@ -193,26 +193,27 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IConfi
         if (suck(worldPosition.relative(Direction.DOWN), hasFilter, true)) {
             return true;
         }
-        //Even though we can add to recurring in the above for loop, we always then exit and don't get to here if we did so
-        List<BlockPos> tempPumpList = new ArrayList<>(recurringNodes);
-        Collections.shuffle(tempPumpList);
-        //Finally, go over the recurring list of nodes and see if there is a fluid block available to suck - if not, will iterate around the recurring block, attempt to suck,
-        //and then add the adjacent block to the recurring list
+        //Finally, go over the recurring nodes, oldest first, and see if there is a fluid block available to suck - if not, will iterate around the recurring block,
+        // attempt to suck, and then add the adjacent block to the recurring nodes
+        int maxRange = MekanismConfig.general.maxPumpRange.get();
+        BlockPos.MutableBlockPos nodePos = new BlockPos.MutableBlockPos();
         BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
-        for (BlockPos tempPumpPos : tempPumpList) {
-            if (suck(tempPumpPos, hasFilter, false)) {
+        while (!recurringNodes.isEmpty()) {
+            nodePos.set(recurringNodes.firstLong());
+            if (suck(nodePos, hasFilter, false)) {
                 return true;
             }
-            //Add all the blocks surrounding this recurring node to the recurring node list
+            //Add all the blocks surrounding this recurring node to the recurring nodes
             for (Direction orientation : EnumUtils.DIRECTIONS) {
-                mutable.setWithOffset(tempPumpPos, orientation);
-                if (WorldUtils.distanceBetween(worldPosition, mutable) <= MekanismConfig.general.maxPumpRange.get()) {
+                mutable.setWithOffset(nodePos, orientation);
+                if (WorldUtils.distanceBetween(worldPosition, mutable) <= maxRange) {
                     if (suck(mutable, hasFilter, true)) {
                         return true;
                     }
                 }
             }
-            recurringNodes.remove(tempPumpPos);
+            //There is nothing left to pump at or around this node, so we can stop checking it
+            recurringNodes.removeFirstLong();
         }
         return false;
     }
@@ -286,8 +287,7 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IConfi
         //Size doesn't matter, but we do want to take the NBT into account
         activeType = fluidStack.copyWithAmount(1);
         if (addRecurring) {
-            pos = pos.immutable();
-            recurringNodes.add(pos);
+            recurringNodes.add(pos.asLong());
         }
         int amountOffered = fluidStack.getAmount();
         if (fluidTank.insert(fluidStack, Action.EXECUTE, AutomationType.INTERNAL).getAmount() != amountOffered) {
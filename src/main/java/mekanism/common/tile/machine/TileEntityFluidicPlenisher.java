@@ -1,10 +1,10 @@
 package mekanism.common.tile.machine;
 
-import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import java.util.EnumSet;
 import java.util.List;
-import java.util.Set;
 import mekanism.api.Action;
 import mekanism.api.AutomationType;
 import mekanism.api.IConfigurable;
@@ -66,8 +66,9 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
     public static final int BASE_TICKS_REQUIRED = SharedConstants.TICKS_PER_SECOND;
     public static final int MAX_FLUID = 10_000;
 
-    private final Set<BlockPos> activeNodes = new ObjectLinkedOpenHashSet<>();
-    private final Set<BlockPos> usedNodes = new ObjectOpenHashSet<>();
+    //Frontier of positions to try filling next, and the positions that have already been filled or checked
+    private final LongLinkedOpenHashSet activeNodes = new LongLinkedOpenHashSet();
+    private final LongSet usedNodes = new LongOpenHashSet();
     public boolean finishedCalc;
     public int ticksRequired = BASE_TICKS_REQUIRED;
     /**
@@ -171,16 +172,19 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
                     finishedCalc = true;
                     return;
                 }
-                activeNodes.add(mutable.immutable());
+                activeNodes.add(mutable.asLong());
             } else {
                 finishedCalc = true;
                 return;
             }
         }
-        Set<BlockPos> toRemove = new ObjectOpenHashSet<>();
-        for (BlockPos nodePos : activeNodes) {
+        BlockPos.MutableBlockPos nodePos = new BlockPos.MutableBlockPos();
+        while (!activeNodes.isEmpty()) {
+            long node = activeNodes.removeFirstLong();
+            usedNodes.add(node);
+            nodePos.set(node);
             if (WorldUtils.isBlockLoaded(level, nodePos)) {
-                if (canReplace(nodePos, true, false) && canExtractBucket() &&
+                if (canReplace(nodePos, false, false) && canExtractBucket() &&
                     WorldUtils.tryPlaceContainedLiquid(null, level, nodePos, fluidTank.getFluid(), null)) {
                     level.gameEvent(null, GameEvent.FLUID_PLACE, nodePos);
                     fluidTank.extract(FluidType.BUCKET_VOLUME, Action.EXECUTE, AutomationType.INTERNAL);
@@ -188,21 +192,16 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
                 for (Direction dir : dirs) {
                     mutable.setWithOffset(nodePos, dir);
                     if (WorldUtils.isBlockLoaded(level, mutable) && canReplace(mutable, true, true)) {
-                        activeNodes.add(mutable.immutable());
+                        activeNodes.add(mutable.asLong());
                     }
                 }
-                toRemove.add(nodePos);
                 break;
-            } else {
-                toRemove.add(nodePos);
             }
         }
-        usedNodes.addAll(toRemove);
-        activeNodes.removeAll(toRemove);
     }
 
     private boolean canReplace(BlockPos pos, boolean checkNodes, boolean isPathfinding) {
-        if (checkNodes && usedNodes.contains(pos)) {
+        if (checkNodes && usedNodes.contains(pos.asLong())) {
             return false;
         }
         BlockState state = level.getBlockState(pos);
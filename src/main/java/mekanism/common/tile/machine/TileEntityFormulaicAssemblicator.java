@@ -26,6 +26,7 @@ import mekanism.common.capabilities.holder.energy.EnergyContainerHelper;
 import mekanism.common.capabilities.holder.energy.IEnergyContainerHolder;
 import mekanism.common.capabilities.holder.slot.IInventorySlotHolder;
 import mekanism.common.capabilities.holder.slot.InventorySlotHelper;
+import mekanism.common.content.assemblicator.FormulaIngredientCache;
 import mekanism.common.content.assemblicator.RecipeFormula;
 import mekanism.common.integration.computer.ComputerException;
 import mekanism.common.integration.computer.SpecialComputerMethodWrapper.ComputerIInventorySlotWrapper;
@@ -87,12 +88,16 @@ public class TileEntityFormulaicAssemblicator extends TileEntityConfigurableMach
     private boolean stockControl = false;
     private boolean needsOrganize = true; //organize on load
     private boolean canTryToMove = true; //allow trying to move on load
+    //Used to only recheck the recipe once after moving multiple items in or out of the crafting grid
+    private boolean deferRecipeCheck;
+    private boolean recipeCheckDeferred;
     private final HashedItem[] stockControlMap = new HashedItem[18];
 
     private int pulseOperations;
 
     @NotNull
     public RecipeFormula formula = RecipeFormula.EMPTY;
+    private final FormulaIngredientCache ingredientCache = new FormulaIngredientCache();
     @Nullable
     private RecipeHolder<CraftingRecipe> cachedRecipe = null;
     @SyntheticComputerMethod(getter = "getExcessRemainingItems")
@@ -146,7 +151,11 @@ public class TileEntityFormulaicAssemblicator extends TileEntityConfigurableMach
         };
         IContentsListener listenAndRecheckRecipe = () -> {
             listener.onContentsChanged();
-            recalculateRecipe();
+            if (deferRecipeCheck) {
+                recipeCheckDeferred = true;
+            } else {
+                recalculateRecipe();
+            }
         };
 
         InventorySlotHelper builder = InventorySlotHelper.forSideWithConfig(this::getDirection, this::getConfig);
@@ -168,7 +177,7 @@ public class TileEntityFormulaicAssemblicator extends TileEntityConfigurableMach
                             return ItemStack.isSameItemSameComponents(stockItem.getInternalStack(), stack);
                         }
                     }
-                    return formula.isValidIngredient(level, stack);
+                    return ingredientCache.isValidIngredient(level, formula, stack);
                 }, BasicInventorySlot.alwaysTrue, inputSlotChanged, 8 + slotX * 18, 98 + slotY * 18);
                 inputSlots.add(builder.addSlot(inputSlot));
             }
@@ -213,8 +222,12 @@ public class TileEntityFormulaicAssemblicator extends TileEntityConfigurableMach
     protected boolean onUpdateServer() {
         boolean sendUpdatePacket = super.onUpdateServer();
         if (CommonWorldTickHandler.flushTagAndRecipeCaches) {
-            //Invalidate the cached recipe and recalculate
+            //Invalidate the cached recipe and ingredients, reload the formula so that it looks up the reloaded recipe, and recalculate
+            //Note: We clear the formula rather than having it be reloaded as a different formula so that the operating ticks don't get reset
             cachedRecipe = null;
+            ingredientCache.invalidate();
+            formula = RecipeFormula.EMPTY;
+            checkFormula();
             recalculateRecipe();
         }
         if (!formula.isEmpty() && stockControl && needsOrganize) {
@@ -312,7 +325,8 @@ public class TileEntityFormulaicAssemblicator extends TileEntityConfigurableMach
                 } else {
                     //Should always be a 3x3 grid for the size
                     CraftingInput input = MekanismUtils.getCraftingInputSlots(3, 3, craftingGridSlots, true).input();
-                    isRecipe = recipe.value().matches(input, level);
+                    //If the grid contains exactly what the formula was encoded with, we already know it matches
+                    isRecipe = formula.containsFormulaItems(craftingGridSlots) || recipe.value().matches(input, level);
                     if (isRecipe) {
                         lastOutputStack = recipe.value().assemble(input, level.registryAccess());
                         lastRemainingItems = recipe.value().getRemainingItems(input);
@@ -382,11 +396,13 @@ public class TileEntityFormulaicAssemblicator extends TileEntityConfigurableMach
                 }
             }
 
+            deferRecipeCheck();
             for (IInventorySlot craftingSlot : craftingGridSlots) {
                 if (!craftingSlot.isEmpty()) {
                     MekanismUtils.logMismatchedStackSize(craftingSlot.shrinkStack(1, Action.EXECUTE), 1);
                 }
             }
+            resumeRecipeCheck();
             if (!formula.isEmpty()) {
                 moveItemsToGrid();
             }
@@ -408,10 +424,11 @@ public class TileEntityFormulaicAssemblicator extends TileEntityConfigurableMach
             return false;
         }
         boolean ret = true;
+        deferRecipeCheck();
         for (int i = 0; i < craftingGridSlots.size(); i++) {
             IInventorySlot recipeSlot = craftingGridSlots.get(i);
             ItemStack recipeStack = recipeSlot.getStack();
-            if (formula.isIngredientInPos(level, recipeStack, i)) {
+            if (ingredientCache.isIngredientInPos(level, formula, recipeStack, i)) {
                 continue;
             }
             if (recipeStack.isEmpty()) {
@@ -426,7 +443,7 @@ public class TileEntityFormulaicAssemblicator extends TileEntityConfigurableMach
                         HashedItem stockStackType = HashedItem.raw(stockStack);
                         //If we already checked this stack type for being valid in the recipe for this position, we can skip checking it again
                         if (checkedTypes == null || checkedTypes.add(stockStackType)) {
-                            if (formula.isIngredientInPos(level, stockStack, i)) {
+                            if (ingredientCache.isIngredientInPos(level, formula, stockStack, i)) {
                                 recipeSlot.setStack(stockStack.copyWithCount(1));
                                 MekanismUtils.logMismatchedStackSize(stockSlot.shrinkStack(1, Action.EXECUTE), 1);
                                 break;
@@ -450,6 +467,7 @@ public class TileEntityFormulaicAssemblicator extends TileEntityConfigurableMach
                 }
             }
         }
+        resumeRecipeCheck();
         if (!ret) {
             //If we failed to move items, then we know none of the currently stored items are valid for the recipe,
             // so we can skip trying to move them until something changes
@@ -458,6 +476,18 @@ public class TileEntityFormulaicAssemblicator extends TileEntityConfigurableMach
         return ret;
     }
 
+    private void deferRecipeCheck() {
+        deferRecipeCheck = true;
+    }
+
+    private void resumeRecipeCheck() {
+        deferRecipeCheck = false;
+        if (recipeCheckDeferred) {
+            recipeCheckDeferred = false;
+            recalculateRecipe();
+        }
+    }
+
     public void craftAll() {
         //TODO: Can we somehow optimize this, maybe by moving multiple items at once
         while (craftSingle()) {
@@ -480,7 +510,7 @@ public class TileEntityFormulaicAssemblicator extends TileEntityConfigurableMach
         for (int i = 0; i < craftingGridSlots.size(); i++) {
             IInventorySlot recipeSlot = craftingGridSlots.get(i);
             ItemStack recipeStack = recipeSlot.getStack();
-            if (!recipeStack.isEmpty() && (forcePush || (!formula.isEmpty() && !formula.isIngredientInPos(getLevel(), recipeStack, i)))) {
+            if (!recipeStack.isEmpty() && (forcePush || (!formula.isEmpty() && !ingredientCache.isIngredientInPos(getLevel(), formula, recipeStack, i)))) {
                 recipeSlot.setStack(tryMoveToInput(recipeStack));
             }
         }
@@ -8,9 +8,11 @@ import mekanism.common.tile.component.TileComponentConfig;
 import mekanism.common.tile.component.TileComponentEjector;
 import mekanism.common.tile.interfaces.ISideConfiguration;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
 
 public abstract class TileEntityConfigurableMachine extends TileEntityMekanism implements ISideConfiguration {
@@ -54,4 +56,29 @@ public abstract class TileEntityConfigurableMachine extends TileEntityMekanism i
         ejectorComponent.tickServer();
         return sendUpdatePacket;
     }
+
+    @Override
+    protected void setChanged(boolean updateComparator) {
+        super.setChanged(updateComparator);
+        //Note: Our contents may change before the ejector has been created
+        if (ejectorComponent != null) {
+            //Our outputs may have changed, so let the ejector know it may have more to eject
+            ejectorComponent.queueEject();
+        }
+    }
+
+    @Override
+    public void onNeighborChange(Block block, BlockPos neighborPos) {
+        super.onNeighborChange(block, neighborPos);
+        if (!isRemote()) {
+            //The neighbor may be able to accept more, or may have been replaced with something that can accept what we are ejecting
+            ejectorComponent.queueEject();
+        }
+    }
+
+    @Override
+    protected void invalidateDirectionCaches(Direction newDirection) {
+        super.invalidateDirectionCaches(newDirection);
+        ejectorComponent.invalidateTargets();
+    }
 }
\ No newline at end of file
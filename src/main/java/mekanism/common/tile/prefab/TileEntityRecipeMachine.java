@@ -6,6 +6,7 @@ import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.BooleanSupplier;
 import mekanism.api.IContentsListener;
+import mekanism.api.Upgrade;
 import mekanism.api.chemical.gas.Gas;
 import mekanism.api.chemical.gas.GasStack;
 import mekanism.api.chemical.gas.IGasTank;
@@ -109,6 +110,19 @@ public abstract class TileEntityRecipeMachine<RECIPE extends MekanismRecipe<?>>
         return recipeCacheUnpauseSaveOnlyListener;
     }
 
+    @Override
+    public void recalculateUpgrades(Upgrade upgrade) {
+        super.recalculateUpgrades(upgrade);
+        //Upgrades can change the energy and time recipes take, so make sure the recipe doesn't stay paused on errors it may no longer have
+        recipeCacheLookupMonitor.unpause();
+    }
+
+    @Override
+    protected boolean isIdle() {
+        //Note: Changes to the inputs reset the no recipe state and wake us back up, but we need to keep ticking while there is output left to eject
+        return recipeCacheLookupMonitor.isIdle() && !ejectorComponent.hasPendingOutput();
+    }
+
     @Override
     public void addContainerTrackers(MekanismContainer container) {
         super.addContainerTrackers(container);
@@ -7,6 +7,7 @@ import mekanism.api.security.SecurityMode;
 import mekanism.api.text.EnumColor;
 import mekanism.common.content.qio.IQIOFrequencyHolder;
 import mekanism.common.content.qio.QIOFrequency;
+import mekanism.common.content.qio.QIOFrequencySnapshot;
 import mekanism.common.integration.computer.ComputerException;
 import mekanism.common.integration.computer.annotation.ComputerMethod;
 import mekanism.common.lib.frequency.Frequency.FrequencyIdentity;
@@ -26,6 +27,12 @@ public class TileEntityQIOComponent extends TileEntityMekanism implements IQIOFr
 
     @Nullable
     private EnumColor lastColor;
+    /**
+     * Snapshot of the selected frequency as of this tile's last server tick, or {@code null} if there is no valid frequency selected. Thread safe computer methods read
+     * this instead of going through the frequency component, as that may only be accessed from the server thread.
+     */
+    @Nullable
+    private volatile QIOFrequencySnapshot computerSnapshot;
 
     public TileEntityQIOComponent(IBlockProvider blockProvider, BlockPos pos, BlockState state) {
         super(blockProvider, pos, state);
@@ -45,6 +52,7 @@ public class TileEntityQIOComponent extends TileEntityMekanism implements IQIOFr
     }
 
     protected boolean onUpdateServer(@Nullable QIOFrequency frequency) {
+        computerSnapshot = frequency == null || !frequency.isValid() || frequency.isRemoved() ? null : frequency.getSnapshot();
         EnumColor prev = lastColor;
         lastColor = frequency == null ? null : frequency.getColor();
         boolean needsUpdate = prev != lastColor;
@@ -109,6 +117,17 @@ public class TileEntityQIOComponent extends TileEntityMekanism implements IQIOFr
         return frequency;
     }
 
+    /**
+     * Safe to call from computer threads.
+     */
+    QIOFrequencySnapshot computerGetSnapshot() throws ComputerException {
+        QIOFrequencySnapshot snapshot = computerSnapshot;
+        if (snapshot == null) {
+            throw new ComputerException("No frequency is currently selected.");
+        }
+        return snapshot;
+    }
+
     @ComputerMethod(requiresPublicSecurity = true, methodDescription = "Requires a public frequency to exist")
     void setFrequency(String name) throws ComputerException {
         validateSecurityIsPublic();
@@ -13,6 +13,7 @@ import mekanism.common.capabilities.holder.slot.InventorySlotHelper;
 import mekanism.common.content.qio.IQIODriveHolder;
 import mekanism.common.content.qio.QIODriveData;
 import mekanism.common.content.qio.QIOFrequency;
+import mekanism.common.content.qio.QIOFrequencySnapshot;
 import mekanism.common.integration.computer.ComputerException;
 import mekanism.common.integration.computer.annotation.ComputerMethod;
 import mekanism.common.inventory.slot.QIODriveSlot;
@@ -166,36 +167,37 @@ public class TileEntityQIODriveArray extends TileEntityQIOComponent implements I
         return DriveStatus.BY_ID.apply(driveStatus[slot]);
     }
 
-    @ComputerMethod(methodDescription = "Requires a frequency to be selected")
+    //Note: The frequency statistics are read from the snapshot we store each tick so that they don't have to be run on the server thread
+    @ComputerMethod(methodDescription = "Requires a frequency to be selected", threadSafe = true)
     long getFrequencyItemCount() throws ComputerException {
-        return computerGetFrequency().getTotalItemCount();
+        return computerGetSnapshot().totalCount();
     }
 
-    @ComputerMethod(methodDescription = "Requires a frequency to be selected")
+    @ComputerMethod(methodDescription = "Requires a frequency to be selected", threadSafe = true)
     long getFrequencyItemCapacity() throws ComputerException {
-        return computerGetFrequency().getTotalItemCountCapacity();
+        return computerGetSnapshot().totalCountCapacity();
     }
 
-    @ComputerMethod(methodDescription = "Requires a frequency to be selected")
+    @ComputerMethod(methodDescription = "Requires a frequency to be selected", threadSafe = true)
     double getFrequencyItemPercentage() throws ComputerException {
-        QIOFrequency frequency = computerGetFrequency();
-        return frequency.getTotalItemCount() / (double) frequency.getTotalItemCountCapacity();
+        QIOFrequencySnapshot snapshot = computerGetSnapshot();
+        return snapshot.totalCount() / (double) snapshot.totalCountCapacity();
     }
 
-    @ComputerMethod(methodDescription = "Requires a frequency to be selected")
+    @ComputerMethod(methodDescription = "Requires a frequency to be selected", threadSafe = true)
     long getFrequencyItemTypeCount() throws ComputerException {
-        return computerGetFrequency().getTotalItemTypes(false);
+        return computerGetSnapshot().totalTypes();
     }
 
-    @ComputerMethod(methodDescription = "Requires a frequency to be selected")
+    @ComputerMethod(methodDescription = "Requires a frequency to be selected", threadSafe = true)
     long getFrequencyItemTypeCapacity() throws ComputerException {
-        return computerGetFrequency().getTotalItemTypeCapacity();
+        return computerGetSnapshot().totalTypeCapacity();
     }
 
-    @ComputerMethod(methodDescription = "Requires a frequency to be selected")
+    @ComputerMethod(methodDescription = "Requires a frequency to be selected", threadSafe = true)
     double getFrequencyItemTypePercentage() throws ComputerException {
-        QIOFrequency frequency = computerGetFrequency();
-        return frequency.getTotalItemTypes(false) / (double) frequency.getTotalItemTypeCapacity();
+        QIOFrequencySnapshot snapshot = computerGetSnapshot();
+        return snapshot.totalTypes() / (double) snapshot.totalTypeCapacity();
     }
     //End methods IComputerTile
 
@@ -1,14 +1,16 @@
 package mekanism.common.tile.qio;
 
-import java.util.HashSet;
-import java.util.Set;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.function.Predicate;
+import mekanism.api.Action;
 import mekanism.api.SerializationConstants;
 import mekanism.api.functions.ConstantPredicates;
 import mekanism.common.Mekanism;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.content.qio.QIOFrequency;
-import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.integration.computer.ComputerException;
 import mekanism.common.integration.computer.annotation.ComputerMethod;
 import mekanism.common.inventory.container.MekanismContainer;
@@ -93,31 +95,51 @@ public class TileEntityQIOImporter extends TileEntityQIOFilterHandler {
             //If the inventory has no slots just exit early
             return;
         }
-        Set<HashedItem> typesAdded = new HashSet<>();
-        int maxTypes = getMaxTransitTypes(), maxCount = getMaxTransitCount(), countAdded = 0;
-
-        for (int i = slots - 1; i >= 0; i--) {
-            ItemStack stack = inventory.extractItem(i, maxCount - countAdded, true);
+        //Gather everything we are able to import grouped by type, so that we only have to insert each type into the frequency once
+        // rather than updating the frequency's lookups for every slot we import from
+        Map<HashedItem, ImportData> toImport = new LinkedHashMap<>();
+        int maxTypes = getMaxTransitTypes(), maxCount = getMaxTransitCount(), countToImport = 0;
+        for (int i = slots - 1; i >= 0 && countToImport < maxCount; i--) {
+            ItemStack stack = inventory.extractItem(i, maxCount - countToImport, true);
             if (stack.isEmpty()) {
                 continue;
             }
             HashedItem type = HashedItem.create(stack);
-            // if we don't have room for another item type, skip
-            if (!typesAdded.contains(type) && typesAdded.size() == maxTypes) {
-                continue;
+            ImportData data = toImport.get(type);
+            if (data == null) {
+                // if we don't have room for another item type, or we can't filter this item type, skip
+                if (toImport.size() == maxTypes || !canFilter.test(stack)) {
+                    continue;
+                }
+                //Only count types against our limits for how much the frequency is actually able to accept of them, so that types the frequency
+                // has no room for don't stop us from importing other types
+                long acceptable = freq.massInsert(stack, maxCount - countToImport, Action.SIMULATE);
+                if (acceptable == 0) {
+                    continue;
+                }
+                data = new ImportData(type.getInternalStack(), acceptable);
+                toImport.put(type, data);
             }
-            // if we can't filter this item type, skip
-            if (!canFilter.test(stack)) {
-                continue;
+            int amount = (int) Math.min(stack.getCount(), data.acceptable - data.total);
+            if (amount > 0) {
+                data.addSlot(i, amount);
+                countToImport += amount;
             }
-            ItemStack used = TransporterManager.getToUse(stack, freq.addItem(stack));
-            ItemStack ret = inventory.extractItem(i, used.getCount(), false);
-            if (!InventoryUtils.areItemsStackable(used, ret) || used.getCount() != ret.getCount()) {
-                Mekanism.logger.error("QIO insertion error: item handler at {} in {} returned {} during simulated extraction, but returned {} during execution. This is wrong!",
-                      worldPosition.relative(getOppositeDirection()), level.dimension().location(), stack, ret);
+        }
+        for (ImportData data : toImport.values()) {
+            //Note: Types may still end up only being partially accepted as they share the frequency's space with each other
+            long inserted = freq.massInsert(data.stack, data.total, Action.EXECUTE);
+            //Extract however much the frequency accepted from the slots we found the type in
+            for (int index = 0, size = data.slots.size(); index < size && inserted > 0; index++) {
+                int slot = data.slots.getInt(index);
+                int toExtract = (int) Math.min(inserted, data.amounts.getInt(index));
+                ItemStack ret = inventory.extractItem(slot, toExtract, false);
+                if (!InventoryUtils.areItemsStackable(data.stack, ret) || ret.getCount() != toExtract) {
+                    Mekanism.logger.error("QIO insertion error: item handler at {} in {} returned {} during simulated extraction, but returned {} during execution. This is wrong!",
+                          worldPosition.relative(getOppositeDirection()), level.dimension().location(), data.stack.copyWithCount(toExtract), ret);
+                }
+                inserted -= toExtract;
             }
-            typesAdded.add(type);
-            countAdded += used.getCount();
         }
     }
 
@@ -170,4 +192,25 @@ public class TileEntityQIOImporter extends TileEntityQIOFilterHandler {
         }
     }
     //End methods IComputerTile
+
+    private static class ImportData {
+
+        private final ItemStack stack;
+        private final IntList slots = new IntArrayList();
+        private final IntList amounts = new IntArrayList();
+        //How many of this type the frequency said it could accept when we first found the type
+        private final long acceptable;
+        private long total;
+
+        private ImportData(ItemStack stack, long acceptable) {
+            this.stack = stack;
+            this.acceptable = acceptable;
+        }
+
+        private void addSlot(int slot, int amount) {
+            slots.add(slot);
+            amounts.add(amount);
+            total += amount;
+        }
+    }
 }
@@ -6,7 +6,6 @@ import com.google.gson.JsonObject;
 import com.mojang.authlib.GameProfile;
 import it.unimi.dsi.fastutil.longs.Long2DoubleArrayMap;
 import it.unimi.dsi.fastutil.longs.Long2DoubleMap;
-import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -16,8 +15,6 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Supplier;
-import mekanism.api.Action;
-import mekanism.api.AutomationType;
 import mekanism.api.Upgrade;
 import mekanism.api.chemical.IChemicalTank;
 import mekanism.api.energy.IEnergyContainer;
@@ -52,8 +49,6 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.network.protocol.game.ClientboundUpdateMobEffectPacket;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.stats.Stat;
-import net.minecraft.stats.Stats;
 import net.minecraft.util.Mth;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.InteractionResult;
@@ -67,23 +62,18 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.CraftingInput;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.ClipContext;
-import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.BubbleColumnBlock;
 import net.minecraft.world.level.block.LiquidBlock;
-import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.material.FluidState;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.Vec3;
 import net.neoforged.fml.loading.FMLEnvironment;
 import net.neoforged.fml.util.thread.EffectiveSide;
-import net.neoforged.neoforge.common.CommonHooks;
 import net.neoforged.neoforge.common.EffectCures;
 import net.neoforged.neoforge.common.Tags;
 import net.neoforged.neoforge.common.UsernameCache;
-import net.neoforged.neoforge.event.level.BlockEvent;
 import net.neoforged.neoforge.fluids.FluidStack;
 import net.neoforged.neoforge.fluids.FluidType;
 import net.neoforged.neoforge.items.IItemHandler;
@@ -762,62 +752,6 @@ public final class MekanismUtils {
         return fluidsIn;
     }
 
-    public static void veinMineArea(IEnergyContainer energyContainer, FloatingLong energyRequired, FloatingLong baseBlastEnergy, FloatingLong baseVeinEnergy,
-          Level world, BlockPos pos, ServerPlayer player, ItemStack stack, Item usedTool, Object2IntMap<BlockPos> found, BlastEnergyFunction blastEnergy,
-          VeinEnergyFunction veinEnergy) {
-        FloatingLong energyUsed = FloatingLong.ZERO;
-        FloatingLong energyAvailable = energyContainer.getEnergy();
-        //Subtract from our available energy the amount that we will require to break the target block
-        energyAvailable = energyAvailable.subtract(energyRequired);
-        Stat<Item> itemStat = Stats.ITEM_USED.get(usedTool);
-        for (Object2IntMap.Entry<BlockPos> foundEntry : found.object2IntEntrySet()) {
-            BlockPos foundPos = foundEntry.getKey();
-            if (pos.equals(foundPos)) {
-                continue;
-            }
-            BlockState targetState = world.getBlockState(foundPos);
-            if (targetState.isAir()) {
-                continue;
-            }
-            float hardness = targetState.getDestroySpeed(world, foundPos);
-            if (hardness == -1) {
-                continue;
-            }
-            int distance = foundEntry.getIntValue();
-            FloatingLong destroyEnergy = distance == 0 ? blastEnergy.calc(baseBlastEnergy, hardness) : veinEnergy.calc(baseVeinEnergy, hardness, distance, targetState);
-            if (energyUsed.add(destroyEnergy).greaterThan(energyAvailable)) {
-                //If we don't have energy to break the block continue
-                //Note: We do not break as given the energy scales with hardness, so it is possible we still have energy to break another block
-                // Given we validate the blocks are the same but their block states may be different thus making them have different
-                // block hardness values in a modded context
-                continue;
-            }
-            BlockEvent.BreakEvent event = CommonHooks.fireBlockBreak(world, player.gameMode.getGameModeForPlayer(), player, foundPos, targetState);
-            if (event.isCanceled()) {
-                //If we can't actually break the block continue (this allows mods to stop us from vein mining into protected land)
-                continue;
-            }
-            //Otherwise, break the block
-            FluidState fluidState = targetState.getFluidState();
-            //Get the tile now so that we have it for when we try to harvest the block
-            BlockEntity tileEntity = WorldUtils.getTileEntity(world, foundPos);
-            //Update what the state will be if the player is destroying it, so that things like angering piglins, and firing block destroy game events occur
-            // This also ensures that things like decorated pots are able to properly update to cracked and drop sherds rather than the pot block itself
-            targetState = targetState.getBlock().playerWillDestroy(world, foundPos, targetState, player);
-            Block block = targetState.getBlock();
-            //Remove the block
-            if (targetState.onDestroyedByPlayer(world, foundPos, player, true, fluidState)) {
-                block.destroy(world, foundPos, targetState);
-                //Harvest the block allowing it to handle block drops, incrementing block mined count, and adding exhaustion
-                block.playerDestroy(world, player, foundPos, targetState, tileEntity, stack);
-                player.awardStat(itemStat);
-                //Mark that we used that portion of the energy
-                energyUsed = energyUsed.plusEqual(destroyEnergy);
-            }
-        }
-        energyContainer.extract(energyUsed, Action.EXECUTE, AutomationType.MANUAL);
-    }
-
     public enum ResourceType {
         GUI("gui"),
         GUI_BUTTON("gui/button"),
@@ -863,16 +797,4 @@ public final class MekanismUtils {
             return heights.values().doubleStream().max().orElse(0);
         }
     }
-
-    @FunctionalInterface
-    public interface BlastEnergyFunction {
-
-        FloatingLong calc(FloatingLong baseBlastEnergy, float hardness);
-    }
-
-    @FunctionalInterface
-    public interface VeinEnergyFunction {
-
-        FloatingLong calc(FloatingLong baseVeinEnergy, float hardness, int distance, BlockState state);
-    }
-}
\ No newline at end of file
+}
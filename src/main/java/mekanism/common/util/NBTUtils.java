@@ -3,8 +3,8 @@ package mekanism.common.util;
 import it.unimi.dsi.fastutil.booleans.BooleanConsumer;
 import it.unimi.dsi.fastutil.bytes.ByteConsumer;
 import it.unimi.dsi.fastutil.floats.FloatConsumer;
+import it.unimi.dsi.fastutil.longs.LongCollection;
 import it.unimi.dsi.fastutil.shorts.ShortConsumer;
-import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Consumer;
@@ -25,8 +25,8 @@ import net.minecraft.core.Holder;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.core.Registry;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.IntArrayTag;
 import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.LongArrayTag;
 import net.minecraft.nbt.NbtUtils;
 import net.minecraft.nbt.Tag;
 import net.minecraft.resources.ResourceKey;
@@ -41,23 +41,21 @@ public class NBTUtils {
     private NBTUtils() {
     }
 
-    public static IntArrayTag writeBlockPositions(Collection<BlockPos> positions) {
-        int[] list = new int[3 * positions.size()];
-        int i = 0;
-        for (BlockPos pos : positions) {
-            list[i++] = pos.getX();
-            list[i++] = pos.getY();
-            list[i++] = pos.getZ();
-        }
-        return new IntArrayTag(list);
+    public static LongArrayTag writeBlockPositions(LongCollection positions) {
+        return new LongArrayTag(positions.toLongArray());
     }
 
-    public static void readBlockPositions(CompoundTag nbt, String key, Collection<BlockPos> positions) {
-        if (nbt.contains(key, Tag.TAG_INT_ARRAY)) {
+    public static void readBlockPositions(CompoundTag nbt, String key, LongCollection positions) {
+        if (nbt.contains(key, Tag.TAG_LONG_ARRAY)) {
+            for (long pos : nbt.getLongArray(key)) {
+                positions.add(pos);
+            }
+        } else if (nbt.contains(key, Tag.TAG_INT_ARRAY)) {
+            //Legacy format from before positions were stored packed, as x, y, z triples
             int[] list = nbt.getIntArray(key);
             if (list.length % 3 == 0) {
                 for (int i = 0; i < list.length;) {
-                    positions.add(new BlockPos(list[i++], list[i++], list[i++]));
+                    positions.add(BlockPos.asLong(list[i++], list[i++], list[i++]));
                 }
             }
         }
@@ -0,0 +1,75 @@
+package mekanism.common.lib;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test WildcardMatchCache implementation")
+class WildcardMatchCacheTest {
+
+    private static final List<String> ENTRIES = List.of("c:ingots", "c:ingots/iron", "c:ingots/osmium", "c:ores/osmium", "c:dusts/osmium", "minecraft:logs",
+          "mekanism:tier1", "mekanism:tier2", "", "Mixed:Case");
+
+    @Test
+    @DisplayName("Test cache matches agree with WildcardMatcher")
+    void testMatchesAgreeWithMatcher() {
+        WildcardMatchCache cache = new WildcardMatchCache(() -> ENTRIES, 16);
+        for (String wildcard : List.of("*", "", "c:ingots", "c:ingots*", "*osmium", "*:*/osmium", "c:*s/*", "mekanism:tier#", "mekanism:tier?", "*#*", "mixed:case",
+              "**ingots**", "c:ingot", "*tier#*", "?:*")) {
+            Set<String> matches = cache.getMatches(wildcard);
+            for (String entry : ENTRIES) {
+                Assertions.assertEquals(WildcardMatcher.matches(wildcard, entry), matches.contains(entry), () -> "Wildcard: '" + wildcard + "', entry: '" + entry + "'");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test cache matches agree with WildcardMatcher on patterns it doesn't backtrack for")
+    void testMatchesAgreeWithMatcherEdgeCases() {
+        List<String> entries = List.of("abab", "ab", "aaab", "aab", "abcabc", "abc", "a1b1", "a1", "test", "testtest", "tester");
+        WildcardMatchCache cache = new WildcardMatchCache(() -> entries, 16);
+        for (String wildcard : List.of("a*b", "*aab", "*ab", "a*c", "*abc", "a#*#", "*test", "test*test", "*t*t", "*er", "a*b*b", "?*b")) {
+            Set<String> matches = cache.getMatches(wildcard);
+            for (String entry : entries) {
+                Assertions.assertEquals(WildcardMatcher.matches(wildcard, entry), matches.contains(entry), () -> "Wildcard: '" + wildcard + "', entry: '" + entry + "'");
+            }
+        }
+        //Sanity check that this covers a case where a plain glob match would differ
+        Assertions.assertFalse(WildcardMatcher.matches("a*b", "abab"));
+        Assertions.assertFalse(cache.getMatches("a*b").contains("abab"));
+    }
+
+    @Test
+    @DisplayName("Test least recently used wildcards get evicted")
+    void testEviction() {
+        WildcardMatchCache cache = new WildcardMatchCache(() -> ENTRIES, 2);
+        cache.getMatches("c:*");
+        cache.getMatches("mekanism:*");
+        //Use the first wildcard again so that the second one is the least recently used
+        cache.getMatches("c:*");
+        cache.getMatches("minecraft:*");
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(1, cache.getHits());
+        Assertions.assertEquals(3, cache.getMisses());
+        cache.getMatches("c:*");
+        Assertions.assertEquals(2, cache.getHits());
+        cache.getMatches("mekanism:*");
+        Assertions.assertEquals(4, cache.getMisses());
+    }
+
+    @Test
+    @DisplayName("Test invalidation picks up new entries")
+    void testInvalidate() {
+        List<String> entries = new ArrayList<>(ENTRIES);
+        WildcardMatchCache cache = new WildcardMatchCache(() -> entries, 16);
+        Assertions.assertTrue(cache.getMatches("c:gems/*").isEmpty());
+        entries.add("c:gems/fluorite");
+        //Still cached
+        Assertions.assertTrue(cache.getMatches("c:gems/*").isEmpty());
+        cache.invalidate();
+        Assertions.assertEquals(Set.of("c:gems/fluorite"), cache.getMatches("c:gems/*"));
+    }
+}